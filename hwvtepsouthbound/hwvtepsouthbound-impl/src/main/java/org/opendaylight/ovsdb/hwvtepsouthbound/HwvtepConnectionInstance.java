@@ -107,6 +107,9 @@ public class HwvtepConnectionInstance {
                 }
             } catch (InterruptedException | ExecutionException e) {
                 LOG.warn("Exception attempting to registerCallbacks {}: ", connectionInfo, e);
+            } finally {
+                // lets other switches waiting for admission connect
+                client.bootstrapComplete();
             }
         }
     }
@@ -146,6 +149,8 @@ public class HwvtepConnectionInstance {
                             .with(new MonitorSelect(true, true, true, true)).build());
                 }
             }
+            // the update commands resolve references across tables, so the initial contents are handed over as a
+            // whole, not with monitorInChunks
             this.callback.update(monitor(dbSchema, monitorRequests, callback), dbSchema);
         } else {
             LOG.warn("No tables for schema {} for database {} for key {}",dbSchema,database,connectionInfo);
@@ -32,9 +32,11 @@ import org.opendaylight.ovsdb.hwvtepsouthbound.reconciliation.connection.Connect
 import org.opendaylight.ovsdb.hwvtepsouthbound.transact.DependencyQueue;
 import org.opendaylight.ovsdb.hwvtepsouthbound.transactions.md.HwvtepGlobalRemoveCommand;
 import org.opendaylight.ovsdb.hwvtepsouthbound.transactions.md.TransactionInvoker;
+import org.opendaylight.ovsdb.lib.EchoServiceCallbackFilters;
 import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionListener;
 import org.opendaylight.ovsdb.lib.impl.OvsdbConnectionService;
+import org.opendaylight.ovsdb.lib.impl.ReconnectScheduler;
 import org.opendaylight.ovsdb.lib.operations.Operation;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
 import org.opendaylight.ovsdb.lib.operations.Select;
@@ -82,6 +84,7 @@ public class HwvtepConnectionManager implements OvsdbConnectionListener, AutoClo
     private final ReconciliationManager reconciliationManager;
     private final Map<InstanceIdentifier<Node>, HwvtepConnectionInstance> nodeIidVsConnectionInstance =
             new ConcurrentHashMap<>();
+    private volatile boolean echoServiceEnabled = true;
 
     public HwvtepConnectionManager(DataBroker db, TransactionInvoker txInvoker,
                     EntityOwnershipService entityOwnershipService) {
@@ -217,9 +220,25 @@ public class HwvtepConnectionManager implements OvsdbConnectionListener, AutoClo
         hwvtepConnectionInstance = new HwvtepConnectionInstance(this, key, externalClient, getInstanceIdentifier(key),
                 txInvoker, db);
         hwvtepConnectionInstance.createTransactInvokers();
+        if (echoServiceEnabled) {
+            externalClient.startEchoService(new EchoServiceCallbackFilters() {
+                @Override
+                public void echoMissed(int consecutiveMisses) {
+                    LOG.debug("HWVTEP Connection {} missed {} echo probes in a row", key, consecutiveMisses);
+                }
+            });
+        }
         return hwvtepConnectionInstance;
     }
 
+    /**
+     * Sets whether the liveness of the connections is probed by their echo service, see
+     * {@link OvsdbClient#startEchoService(EchoServiceCallbackFilters)}, rather than by a fixed read timeout.
+     */
+    public void setEchoServiceEnabled(boolean echoServiceEnabled) {
+        this.echoServiceEnabled = echoServiceEnabled;
+    }
+
     private void putConnectionInstance(ConnectionInfo key,HwvtepConnectionInstance instance) {
         ConnectionInfo connectionInfo = HwvtepSouthboundMapper.suppressLocalIpPort(key);
         clients.put(connectionInfo, instance);
@@ -424,6 +443,8 @@ public class HwvtepConnectionManager implements OvsdbConnectionListener, AutoClo
                 iid,
                 hwvtepNode);
         reconciliationManager.dequeue(task);
+        // the node is no longer reconnected to, forget its failed attempts
+        ReconnectScheduler.getInstance().reset(iid);
     }
 
     private void retryConnection(final InstanceIdentifier<Node> iid, final HwvtepGlobalAugmentation hwvtepNode,
@@ -454,7 +475,8 @@ public class HwvtepConnectionManager implements OvsdbConnectionListener, AutoClo
                         if (node.isPresent()) {
                             LOG.info("Disconnected/Failed connection {} was controller initiated, attempting " +
                                     "reconnection", hwvtepNode.getConnectionInfo());
-                            reconciliationManager.enqueue(task);
+                            // after a jittered delay, so that the nodes lost together do not reconnect together
+                            reconciliationManager.enqueueForRetry(task);
 
                         } else {
                             LOG.debug("Connection {} was switch initiated, no reconciliation is required"
@@ -29,7 +29,7 @@ public class HwvtepMonitorCallback implements MonitorCallBack {
     @Override
     public void update(TableUpdates result, DatabaseSchema dbSchema) {
         LOG.trace("result: {} dbSchema: {}",result,dbSchema.getName());
-        txInvoker.invoke(new HwvtepOperationalCommandAggregator(key, result, dbSchema));
+        txInvoker.invoke(new HwvtepOperationalCommandAggregator(key, result, dbSchema), key.getOvsdbClient());
         LOG.trace("update exit");
     }
 
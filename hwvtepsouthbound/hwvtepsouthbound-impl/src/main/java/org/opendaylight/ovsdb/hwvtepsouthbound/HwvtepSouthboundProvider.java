@@ -24,6 +24,7 @@ import org.opendaylight.mdsal.dom.api.DOMSchemaService;
 import org.opendaylight.ovsdb.hwvtepsouthbound.reconciliation.configuration.HwvtepReconciliationManager;
 import org.opendaylight.ovsdb.hwvtepsouthbound.transactions.md.TransactionInvoker;
 import org.opendaylight.ovsdb.hwvtepsouthbound.transactions.md.TransactionInvokerImpl;
+import org.opendaylight.ovsdb.lib.BacklogThrottle;
 import org.opendaylight.ovsdb.lib.OvsdbConnection;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NetworkTopology;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.Topology;
@@ -55,6 +56,9 @@ public class HwvtepSouthboundProvider implements AutoCloseable {
     private HwvtepsbPluginInstanceEntityOwnershipListener providerOwnershipChangeListener;
     private HwvtepDataChangeListener hwvtepDTListener;
     private HwvtepReconciliationManager hwvtepReconciliationManager;
+    private int transactionBacklogHighWatermark = BacklogThrottle.DEFAULT_HIGH_WATERMARK;
+    private int transactionBacklogLowWatermark = BacklogThrottle.DEFAULT_LOW_WATERMARK;
+    private boolean echoServiceEnabled = true;
 
     public HwvtepSouthboundProvider(final DataBroker dataBroker,
             final EntityOwnershipService entityOwnershipServiceDependency,
@@ -75,8 +79,9 @@ public class HwvtepSouthboundProvider implements AutoCloseable {
      */
     public void init() {
         LOG.info("HwvtepSouthboundProvider Session Initiated");
-        txInvoker = new TransactionInvokerImpl(db);
+        txInvoker = new TransactionInvokerImpl(db, transactionBacklogHighWatermark, transactionBacklogLowWatermark);
         cm = new HwvtepConnectionManager(db, txInvoker, entityOwnershipService);
+        cm.setEchoServiceEnabled(echoServiceEnabled);
         hwvtepDTListener = new HwvtepDataChangeListener(db, cm);
         hwvtepReconciliationManager = new HwvtepReconciliationManager(db, cm);
         //Register listener for entityOnwership changes
@@ -150,6 +155,33 @@ public class HwvtepSouthboundProvider implements AutoCloseable {
         }
     }
 
+    /**
+     * Sets the transaction backlog past which reading from the switches sending updates is suspended. Only
+     * configured at start up.
+     */
+    public void setTransactionBacklogHighWatermark(int highWatermark) {
+        LOG.debug("transactionBacklogHighWatermark set to {}", highWatermark);
+        this.transactionBacklogHighWatermark = highWatermark;
+    }
+
+    /**
+     * Sets the transaction backlog below which reading from the suspended switches is resumed. Only configured
+     * at start up.
+     */
+    public void setTransactionBacklogLowWatermark(int lowWatermark) {
+        LOG.debug("transactionBacklogLowWatermark set to {}", lowWatermark);
+        this.transactionBacklogLowWatermark = lowWatermark;
+    }
+
+    /**
+     * Sets whether the liveness of the connections is probed by the echo service of the library. Only configured
+     * at start up.
+     */
+    public void setEchoServiceEnabled(boolean echoServiceEnabled) {
+        LOG.debug("echoServiceEnabled set to {}", echoServiceEnabled);
+        this.echoServiceEnabled = echoServiceEnabled;
+    }
+
     public void handleOwnershipChange(EntityOwnershipChange ownershipChange) {
         if (ownershipChange.isOwner()) {
             LOG.info("*This* instance of HWVTEP southbound provider is set as a MASTER instance");
@@ -10,6 +10,7 @@ package org.opendaylight.ovsdb.hwvtepsouthbound.reconciliation.connection;
 import org.opendaylight.ovsdb.hwvtepsouthbound.reconciliation.ReconciliationManager;
 import org.opendaylight.ovsdb.hwvtepsouthbound.reconciliation.ReconciliationTask;
 import org.opendaylight.ovsdb.lib.OvsdbClient;
+import org.opendaylight.ovsdb.lib.impl.ReconnectScheduler;
 import org.opendaylight.ovsdb.hwvtepsouthbound.HwvtepConnectionManager;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.hwvtep.rev150901.HwvtepGlobalAugmentation;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.topology.Node;
@@ -31,10 +32,12 @@ public class ConnectionReconciliationTask extends ReconciliationTask {
 
     private static final Logger LOG = LoggerFactory.getLogger(ConnectionReconciliationTask.class);
 
-    private static final int RETRY_INTERVAL_FACTOR = 10000;
     private static final int MAX_ATTEMPT = 10;
+    private static final ReconnectScheduler RECONNECT_SCHEDULER = ReconnectScheduler.getInstance();
 
     private AtomicInteger connectionAttempt = new AtomicInteger(0);
+    // set when the last run could not start its attempt because too many were in flight
+    private volatile boolean deferred;
 
     public ConnectionReconciliationTask(ReconciliationManager reconciliationManager, HwvtepConnectionManager
             connectionManager, InstanceIdentifier<?> nodeIid, DataObject configData) {
@@ -45,6 +48,11 @@ public class ConnectionReconciliationTask extends ReconciliationTask {
     @Override
     public boolean reconcileConfiguration(HwvtepConnectionManager connectionManager) {
         boolean result = false;
+        deferred = !RECONNECT_SCHEDULER.tryStartAttempt();
+        if (deferred) {
+            LOG.debug("Too many connection attempts in flight, deferring {}", nodeIid);
+            return result;
+        }
         connectionAttempt.incrementAndGet();
         InstanceIdentifier<Node> nIid = (InstanceIdentifier<Node>) nodeIid;
         HwvtepGlobalAugmentation hwvtepNode = (HwvtepGlobalAugmentation)configData;
@@ -55,6 +63,7 @@ public class ConnectionReconciliationTask extends ReconciliationTask {
             client = connectionManager.connect(nIid, hwvtepNode);
             if (client != null) {
                 LOG.info("Successfully connected to Hwvtep Node {} ", hwvtepNode.getConnectionInfo());
+                RECONNECT_SCHEDULER.reset(nodeIid);
                 result = true;
             } else {
                 LOG.warn("Connection retry({}) failed for {}.",
@@ -62,6 +71,8 @@ public class ConnectionReconciliationTask extends ReconciliationTask {
             }
         } catch (UnknownHostException | ConnectException e) {
             LOG.warn("Connection retry({}) failed with exception. ",connectionAttempt.get(), e);
+        } finally {
+            RECONNECT_SCHEDULER.endAttempt();
         }
         return result;
     }
@@ -72,6 +83,9 @@ public class ConnectionReconciliationTask extends ReconciliationTask {
         if( !wasLastAttemptSuccessful && connectionAttempt.get() <= MAX_ATTEMPT ) {
             reconciliationManager.enqueueForRetry(ConnectionReconciliationTask.this);
         } else {
+            if (!wasLastAttemptSuccessful) {
+                RECONNECT_SCHEDULER.reset(nodeIid);
+            }
             reconciliationManager.dequeue(this);
         }
     }
@@ -83,6 +97,12 @@ public class ConnectionReconciliationTask extends ReconciliationTask {
 
     @Override
     public long retryDelayInMills() {
-        return connectionAttempt.get() * RETRY_INTERVAL_FACTOR;
+        if (deferred) {
+            return RECONNECT_SCHEDULER.deferralDelayMillis();
+        }
+        // exponential backoff with jitter, shared with the other nodes so that they do not all retry together;
+        // nothing has failed yet before the first attempt
+        return connectionAttempt.get() == 0 ? RECONNECT_SCHEDULER.firstDelayMillis()
+                : RECONNECT_SCHEDULER.nextDelayMillis(nodeIid);
     }
 }
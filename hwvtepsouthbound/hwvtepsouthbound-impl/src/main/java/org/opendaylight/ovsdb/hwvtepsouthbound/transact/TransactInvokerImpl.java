@@ -10,9 +10,11 @@ package org.opendaylight.ovsdb.hwvtepsouthbound.transact;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 import com.google.common.base.Strings;
 import org.opendaylight.ovsdb.hwvtepsouthbound.HwvtepConnectionInstance;
+import org.opendaylight.ovsdb.lib.error.ConnectionBusyException;
 import org.opendaylight.ovsdb.lib.operations.Delete;
 import org.opendaylight.ovsdb.lib.operations.Insert;
 import org.opendaylight.ovsdb.lib.operations.Operation;
@@ -61,6 +63,15 @@ public class TransactInvokerImpl implements TransactInvoker {
                 } else {
                     command.onSuccess(tb);
                 }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ConnectionBusyException) {
+                    // not sent at all, the switch is not keeping up with the requests already sent to it
+                    LOG.warn("Transaction not sent to {}: {}", connectionInstance.getConnectionInfo(),
+                            e.getCause().getMessage());
+                    command.onFailure(tb);
+                } else {
+                    LOG.warn("Transact execution exception: ", e);
+                }
             } catch (Exception e) {
                 LOG.warn("Transact execution exception: ", e);
             }
@@ -8,10 +8,18 @@
 
 package org.opendaylight.ovsdb.hwvtepsouthbound.transactions.md;
 
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+
 public interface TransactionInvoker {
 
     void invoke(TransactionCommand command);
 
+    /**
+     * Invokes a command built from the updates of the source connection, which stops being read from while
+     * this invoker is backlogged.
+     */
+    void invoke(TransactionCommand command, OvsdbClient source);
+
     void close () throws Exception;
 
 }
@@ -18,6 +18,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import org.opendaylight.controller.md.sal.binding.api.BindingTransactionChain;
@@ -26,6 +27,8 @@ import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChain;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.opendaylight.ovsdb.lib.BacklogThrottle;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,9 +44,11 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
         Thread.UncaughtExceptionHandler {
     private static final Logger LOG = LoggerFactory.getLogger(TransactionInvokerImpl.class);
     private static final int QUEUE_SIZE = 10000;
+    private static final long BACKLOG_CHECK_INTERVAL_MS = 100;
     private BindingTransactionChain chain;
     private DataBroker db;
-    private BlockingQueue<TransactionCommand> inputQueue = new LinkedBlockingQueue<>(QUEUE_SIZE);
+    // kept short by the throttle, past its watermarks reading from the sources is suspended
+    private BlockingQueue<TransactionCommand> inputQueue;
     private BlockingQueue<ReadWriteTransaction> successfulTransactionQueue
         = new LinkedBlockingQueue<>(QUEUE_SIZE);
     private BlockingQueue<AsyncTransaction<?, ?>> failedTransactionQueue
@@ -55,8 +60,21 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
     //This is made volatile as it is accessed from uncaught exception handler thread also
     private volatile ReadWriteTransaction transactionInFlight = null;
     private Iterator<TransactionCommand> commandIterator = null;
+    private final BacklogThrottle throttle;
+    private volatile int pendingTransactionCount;
 
     public TransactionInvokerImpl(DataBroker db) {
+        this(db, BacklogThrottle.DEFAULT_HIGH_WATERMARK, BacklogThrottle.DEFAULT_LOW_WATERMARK);
+    }
+
+    /**
+     * Creates an invoker which suspends reading from the connections submitting updates once its backlog, the
+     * commands queued plus the transactions submitted but not yet committed, reaches the high watermark, and
+     * resumes reading once the backlog is down to the low watermark.
+     */
+    public TransactionInvokerImpl(DataBroker db, int highWatermark, int lowWatermark) {
+        this.throttle = new BacklogThrottle(highWatermark, lowWatermark, this::getBacklog);
+        this.inputQueue = new LinkedBlockingQueue<>();
         this.db = db;
         this.chain = db.createTransactionChain(this);
         ThreadFactory threadFact = new ThreadFactoryBuilder().setNameFormat("transaction-invoker-impl-%d")
@@ -69,8 +87,23 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
 
     @Override
     public void invoke(final TransactionCommand command) {
-        // TODO what do we do if queue is full?
+        // called from the I/O threads, which must never block: the updates still coming from the suspended sources
+        // are always queued, past the expected maximum a warning is logged
         inputQueue.offer(command);
+        throttle.checkOverflow();
+    }
+
+    @Override
+    public void invoke(final TransactionCommand command, final OvsdbClient source) {
+        throttle.throttle(source);
+        invoke(command);
+    }
+
+    /**
+     * Commands queued plus transactions not yet committed.
+     */
+    private int getBacklog() {
+        return inputQueue.size() + pendingTransactionCount;
     }
 
     @Override
@@ -89,6 +122,7 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
     public void run() {
         while (true) {
             forgetSuccessfulTransactions();
+            throttle.resumeIfDrained();
 
             List<TransactionCommand> commands = null;
             try {
@@ -161,6 +195,7 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
         chain.close();
         chain = db.createTransactionChain(this);
         pendingTransactions = new ArrayList<>();
+        pendingTransactionCount = 0;
         transactionToCommand = new HashMap<>();
         failedTransactionQueue.clear();
         successfulTransactionQueue.clear();
@@ -170,6 +205,7 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
             final ReadWriteTransaction transaction) {
         transactionToCommand.put(transaction, command);
         pendingTransactions.add(transaction);
+        pendingTransactionCount = pendingTransactions.size();
     }
 
     private List<TransactionCommand> extractCommands() throws InterruptedException {
@@ -185,7 +221,13 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
 
     private List<TransactionCommand> extractCommandsFromQueue() throws InterruptedException {
         List<TransactionCommand> result = new ArrayList<>();
-        TransactionCommand command = inputQueue.take();
+        TransactionCommand command;
+        if (throttle.hasSuspendedSources()) {
+            // wake up regularly to resume the sources once enough transactions are committed
+            command = inputQueue.poll(BACKLOG_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        } else {
+            command = inputQueue.take();
+        }
         while (command != null) {
             result.add(command);
             command = inputQueue.poll();
@@ -200,6 +242,7 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
             transactionToCommand.remove(transaction);
             transaction = successfulTransactionQueue.poll();
         }
+        pendingTransactionCount = pendingTransactions.size();
     }
 
     @Override
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib;
+
+import com.google.common.base.Preconditions;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Throttles the connections feeding a backlog of work, such as the updates read from the switches waiting to be
+ * written to the datastore. Reading from a connection submitting work is suspended, see
+ * {@link OvsdbClient#suspendReading()}, once the backlog reaches the high watermark; reading from all the
+ * suspended connections is resumed once the backlog is down to the low watermark.
+ *
+ * <p>The work already read from a connection when it is suspended still comes in, so the backlog can grow past the
+ * high watermark. That work is submitted from the I/O threads, which must never block, so it is always accepted;
+ * {@link #checkOverflow()} reports a backlog growing past {@link #getMaxBacklog()}.
+ */
+public final class BacklogThrottle {
+
+    public static final int DEFAULT_HIGH_WATERMARK = 5000;
+    public static final int DEFAULT_LOW_WATERMARK = 1000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(BacklogThrottle.class);
+
+    private final int highWatermark;
+    private final int lowWatermark;
+    private final IntSupplier backlog;
+    // guarded by itself
+    private final Set<OvsdbClient> suspendedSources = new HashSet<>();
+    private volatile boolean overflowing;
+
+    /**
+     * Creates a throttle of the given backlog.
+     *
+     * @param highWatermark the backlog at which the connections submitting work are suspended
+     * @param lowWatermark the backlog at which the suspended connections are resumed
+     * @param backlog the current size of the backlog, called from any thread
+     */
+    public BacklogThrottle(int highWatermark, int lowWatermark, IntSupplier backlog) {
+        Preconditions.checkArgument(highWatermark > 0, "High watermark %s is not positive", highWatermark);
+        Preconditions.checkArgument(lowWatermark >= 0 && lowWatermark <= highWatermark,
+                "Low watermark %s is not between 0 and the high watermark %s", lowWatermark, highWatermark);
+        this.highWatermark = highWatermark;
+        this.lowWatermark = lowWatermark;
+        this.backlog = backlog;
+    }
+
+    /**
+     * Suspends reading from the source if the backlog reached the high watermark. To be called before adding the
+     * work submitted by the source to the backlog.
+     */
+    public void throttle(OvsdbClient source) {
+        if (source == null || backlog.getAsInt() < highWatermark) {
+            return;
+        }
+        synchronized (suspendedSources) {
+            if (suspendedSources.add(source)) {
+                LOG.info("Backlog at {}, suspending updates from {}", backlog.getAsInt(),
+                        source.getConnectionInfo());
+                source.suspendReading();
+            }
+        }
+    }
+
+    /**
+     * Resumes reading from the suspended sources if the backlog is down to the low watermark. To be called
+     * whenever the backlog goes down.
+     *
+     * @return true if some sources are still suspended, and the backlog should be checked again
+     */
+    public boolean resumeIfDrained() {
+        synchronized (suspendedSources) {
+            if (suspendedSources.isEmpty()) {
+                return false;
+            }
+            if (backlog.getAsInt() > lowWatermark) {
+                return true;
+            }
+            LOG.info("Backlog down to {}, resuming updates from {} connections", backlog.getAsInt(),
+                    suspendedSources.size());
+            for (OvsdbClient source : suspendedSources) {
+                source.resumeReading();
+            }
+            suspendedSources.clear();
+            return false;
+        }
+    }
+
+    public boolean hasSuspendedSources() {
+        synchronized (suspendedSources) {
+            return !suspendedSources.isEmpty();
+        }
+    }
+
+    /**
+     * Returns the size the backlog is expected to stay under, leaving room past the high watermark for the work
+     * already read from the connections when they are suspended.
+     */
+    public int getMaxBacklog() {
+        return 2 * highWatermark;
+    }
+
+    /**
+     * Logs a warning when the backlog grows past {@link #getMaxBacklog()}, once until it is back under. To be called
+     * after adding work to the backlog.
+     *
+     * @return true if the backlog is past its expected maximum
+     */
+    public boolean checkOverflow() {
+        int current = backlog.getAsInt();
+        if (current <= getMaxBacklog()) {
+            overflowing = false;
+            return false;
+        }
+        if (!overflowing) {
+            overflowing = true;
+            LOG.warn("Backlog at {}, past its expected maximum of {} although {} connections are suspended",
+                    current, getMaxBacklog(), suspendedSourceCount());
+        }
+        return true;
+    }
+
+    private int suspendedSourceCount() {
+        synchronized (suspendedSources) {
+            return suspendedSources.size();
+        }
+    }
+}
@@ -8,5 +8,31 @@
 
 package org.opendaylight.ovsdb.lib;
 
+/**
+ * Callback that can be registered with {@link org.opendaylight.ovsdb.lib.OvsdbClient#startEchoService} to get
+ * notified of the results of the echo probes sent while the connection is idle, and to decide how many missed
+ * probes in a row make the connection dead.
+ */
 public interface EchoServiceCallbackFilters {
+
+    /**
+     * Called when a probe is answered.
+     * @param roundTripMillis time between the probe and its answer, in milliseconds
+     */
+    default void echoSucceeded(long roundTripMillis) {
+    }
+
+    /**
+     * Called when a probe is not answered in time, while nothing else was received from the peer either.
+     * @param consecutiveMisses the number of probes missed in a row, including this one
+     */
+    default void echoMissed(int consecutiveMisses) {
+    }
+
+    /**
+     * Returns the number of probes missed in a row after which the connection is closed.
+     */
+    default int getMaxMissedEchoes() {
+        return 3;
+    }
 }
@@ -10,6 +10,7 @@ package org.opendaylight.ovsdb.lib;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.ovsdb.lib.message.MonitorRequest;
 import org.opendaylight.ovsdb.lib.message.TableUpdates;
 import org.opendaylight.ovsdb.lib.notation.Row;
@@ -55,6 +56,15 @@ public interface OvsdbClient {
      */
     ListenableFuture<List<OperationResult>> transact(DatabaseSchema dbSchema, List<Operation> operations);
 
+    /**
+     * Execute the list of operations in a single Transactions, with a deadline of its own.
+     * See {@link #transact(DatabaseSchema, List)}
+     * @param timeout time after which the transaction is cancelled, overriding the configured transact timeout
+     * @param unit unit of the timeout
+     */
+    ListenableFuture<List<OperationResult>> transact(DatabaseSchema dbSchema, List<Operation> operations,
+                                                     long timeout, TimeUnit unit);
+
     /**
      * ovsdb <a href="http://tools.ietf.org/html/draft-pfaff-ovsdb-proto-04#section-4.1.5">monitor</a> operation.
      * @param monitorRequests represents what needs to be monitored including a client specified monitor handle. This
@@ -77,6 +87,18 @@ public interface OvsdbClient {
                                                     MonitorCallBack callback,
                                                     int timeout);
 
+    /**
+     * Non-blocking variant of {@link #monitor(DatabaseSchema, List, MonitorCallBack)}. The monitor call is
+     * bounded by the configured monitor timeout.
+     * @param monitorRequests represents what needs to be monitored including a client specified monitor handle. This
+     *                       handle is used to later cancel ({@link #cancelMonitor(MonitorHandle)}) the monitor.
+     * @param callback receives the monitor updates following the initial contents
+     * @return future initial contents of the monitored tables, failing if the monitor could not be established
+     */
+    <E extends TableSchema<E>> ListenableFuture<TableUpdates> monitorAsync(DatabaseSchema schema,
+                                                                           List<MonitorRequest> monitorRequests,
+                                                                           MonitorCallBack callback);
+
     /**
      * ovsdb <a href="http://tools.ietf.org/html/draft-pfaff-ovsdb-proto-04#section-4.1.5">monitor</a> operation.
      * @param monitorRequests represents what needs to be monitored
@@ -103,6 +125,24 @@ public interface OvsdbClient {
                                                     MonitorCallBack callback,
                                                     int timeout);
 
+    /**
+     * ovsdb <a href="http://tools.ietf.org/html/draft-pfaff-ovsdb-proto-04#section-4.1.5">monitor</a> operation.
+     * Unlike the other monitor methods, the initial contents of the monitored tables are not returned but
+     * delivered to the callback, in chunks of at most rowsPerChunk rows of a single table, as the reply is
+     * received. This bounds the number of rows held at once for very large databases. The chunks are delivered
+     * on the thread reading the reply, before the subsequent monitor updates, with the tables in the order the
+     * server sends them: callbacks resolving rows of one table against rows of another must not rely on both
+     * being in the same chunk.
+     * @param monitorRequests represents what needs to be monitored
+     * @param callback receives the initial contents and the subsequent monitor updates
+     * @param rowsPerChunk maximum number of rows per chunk of the initial contents
+     * @return future completing once the monitor is established and the initial contents delivered
+     */
+    <E extends TableSchema<E>> ListenableFuture<Void> monitorInChunks(DatabaseSchema schema,
+                                                                      List<MonitorRequest> monitorRequests,
+                                                                      MonitorCallBack callback,
+                                                                      int rowsPerChunk);
+
     /**
      * Cancels an existing monitor method.
      * @param handler Handle identifying a specific monitor request that is being cancelled.
@@ -144,14 +184,43 @@ public interface OvsdbClient {
     ListenableFuture<List<String>> echo();
 
     /**
-     * Starts the echo service. The {@code callbackFilters} can be used to get notified on the absence of echo
-     * notifications from the remote device and control the frequency of such notifications.
+     * ovsdb echo operation, with a deadline of its own.
+     * @param timeout time after which the echo is cancelled, overriding the configured echo timeout
+     * @param unit unit of the timeout
+     */
+    ListenableFuture<List<String>> echo(long timeout, TimeUnit unit);
+
+    /**
+     * Stops reading from the connection until {@link #resumeReading()} is called, so that the remote end is
+     * throttled by TCP flow control while the updates already read from it are being processed. Replies to
+     * pending calls are not read either in the meantime.
+     */
+    void suspendReading();
+
+    /**
+     * Resumes reading from the connection after {@link #suspendReading()}.
+     */
+    void resumeReading();
+
+    /**
+     * Reports that the initial requests made on a switch initiated connection (schema, initial monitor dump)
+     * are done, so that other connections waiting for admission can be admitted.
+     */
+    void bootstrapComplete();
+
+    /**
+     * Starts the echo service. Echo probes are sent to the remote device when nothing was received from it for
+     * the echo interval, their timeout adapts to the observed round trip time, and the connection is closed
+     * after too many probes are missed in a row while the device stays silent. The service replaces the fixed
+     * read timeout of the connection. The {@code callbackFilters} can be used to get notified on the absence of
+     * echo replies from the remote device and control how many of them are tolerated.
      * @param callbackFilters callbacks for notifying the client of missing echo calls from remote.
      */
     void startEchoService(EchoServiceCallbackFilters callbackFilters);
 
     /**
-     * Stops the echo service, i.e echo requests from the remote would not be acknowledged after this call.
+     * Stops the echo service, and restores the fixed read timeout of the connection. Echo requests from the
+     * remote are still acknowledged.
      */
     void stopEchoService();
 
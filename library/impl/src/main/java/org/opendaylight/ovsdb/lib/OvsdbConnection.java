@@ -7,6 +7,7 @@
  */
 package org.opendaylight.ovsdb.lib;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import io.netty.channel.Channel;
 import java.net.InetAddress;
 import java.util.Collection;
@@ -45,6 +46,43 @@ public interface OvsdbConnection {
      */
     OvsdbClient connectWithSsl(InetAddress address, int port, SSLContext sslContext);
 
+    /**
+     * Non-blocking variant of {@link #connect(InetAddress, int)}.
+     * @param address IP Address of the remote server that hosts the ovsdb server.
+     * @param port Layer 4 port on which the remote ovsdb server is listening on.
+     * @param connectTimeoutMillis time allowed to establish the connection, in milliseconds.
+     * @return future OvsDBClient of the ovsdb connection, failing if the connection could not be established.
+     */
+    ListenableFuture<OvsdbClient> connectAsync(InetAddress address, int port, int connectTimeoutMillis);
+
+    /**
+     * Non-blocking variant of {@link #connectWithSsl(InetAddress, int, SSLContext)}.
+     * @param address IP Address of the remote server that hosts the ovsdb server.
+     * @param port Layer 4 port on which the remote ovsdb server is listening on.
+     * @param sslContext Netty sslContext for channel configuration
+     * @param connectTimeoutMillis time allowed to establish the connection, in milliseconds.
+     * @return future OvsDBClient of the ovsdb connection, failing if the connection could not be established.
+     */
+    ListenableFuture<OvsdbClient> connectWithSslAsync(InetAddress address, int port, SSLContext sslContext,
+            int connectTimeoutMillis);
+
+    /**
+     * connect API can be used by the applications to initiate Active connection from
+     * the controller towards an ovsdb-server on the same host, through its unix domain
+     * socket (for instance /var/run/openvswitch/db.sock). Needs the native epoll transport.
+     * @param path path of the unix domain socket the ovsdb-server listens on
+     * @return OvsDBClient The primary Client interface for the ovsdb connection.
+     */
+    OvsdbClient connectUnixSocket(String path);
+
+    /**
+     * Non-blocking variant of {@link #connectUnixSocket(String)}.
+     * @param path path of the unix domain socket the ovsdb-server listens on
+     * @param connectTimeoutMillis time allowed to establish the connection, in milliseconds.
+     * @return future OvsDBClient of the ovsdb connection, failing if the connection could not be established.
+     */
+    ListenableFuture<OvsdbClient> connectUnixSocketAsync(String path, int connectTimeoutMillis);
+
     /**
      * Method to disconnect an existing connection.
      * @param client that represents the ovsdb connection.
@@ -12,6 +12,7 @@ import io.netty.channel.Channel;
 import io.netty.handler.ssl.SslHandler;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.security.cert.Certificate;
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.xml.bind.annotation.XmlElement;
@@ -42,22 +43,32 @@ public class OvsdbConnectionInfo {
 
     @XmlElement(name = "remoteAddress")
     public InetAddress getRemoteAddress() {
-        return ((InetSocketAddress)channel.remoteAddress()).getAddress();
+        return getInetAddress(channel.remoteAddress());
     }
 
     @XmlElement(name = "remotePort")
     public int getRemotePort() {
-        return ((InetSocketAddress)channel.remoteAddress()).getPort();
+        return getPort(channel.remoteAddress());
     }
 
     @XmlElement(name = "localAddress")
     public InetAddress getLocalAddress() {
-        return ((InetSocketAddress)channel.localAddress()).getAddress();
+        return getInetAddress(channel.localAddress());
     }
 
     @XmlElement(name = "localPort")
     public int getLocalPort() {
-        return ((InetSocketAddress)channel.localAddress()).getPort();
+        return getPort(channel.localAddress());
+    }
+
+    // connections through a unix domain socket are local, and have no port
+    private static InetAddress getInetAddress(SocketAddress address) {
+        return address instanceof InetSocketAddress ? ((InetSocketAddress) address).getAddress()
+                : InetAddress.getLoopbackAddress();
+    }
+
+    private static int getPort(SocketAddress address) {
+        return address instanceof InetSocketAddress ? ((InetSocketAddress) address).getPort() : 0;
     }
 
     @XmlElement(name = "connectionType")
@@ -0,0 +1,20 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.error;
+
+/**
+ * Signals that a request was not sent because the connection was not draining its outbound buffer fast enough,
+ * and too many requests were already waiting for it to. The request can be retried later.
+ */
+public class ConnectionBusyException extends RuntimeException {
+
+    public ConnectionBusyException(String message) {
+        super(message);
+    }
+}
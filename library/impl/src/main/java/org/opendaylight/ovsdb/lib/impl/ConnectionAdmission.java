@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.impl;
+
+import com.google.common.base.Ticker;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Admission control of the new connections, so that a storm of reconnecting switches is brought up at a
+ * sustainable pace instead of all at once.
+ *
+ * <p>A connection is admitted when a token is available in a token bucket refilled at a given rate, and fewer
+ * than a given number of admitted connections are still bootstrapping, that is exchanging their initial
+ * requests (echo probe, schema, initial monitor dump). The others wait, in arrival order. A connection stops
+ * bootstrapping when its user reports it, when it is closed or, failing both, after a timeout.
+ */
+final class ConnectionAdmission {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionAdmission.class);
+    private static final AttributeKey<Admission> ADMISSION = AttributeKey.valueOf(ConnectionAdmission.class,
+            "ADMISSION");
+
+    private final ScheduledExecutorService executor;
+    private final Ticker ticker;
+    private final Deque<Admission> waiting = new ArrayDeque<>();
+
+    // all guarded by this
+    private double rate;
+    private double burst;
+    private int maxBootstrapping;
+    private long bootstrapTimeoutMillis;
+    private double tokens;
+    private long lastRefillNanos;
+    private int bootstrapping;
+    private boolean drainScheduled;
+
+    /**
+     * Creates an admission controller admitting all connections right away.
+     *
+     * @param executor executor running the admitted connections' tasks, and the deferred admissions
+     */
+    ConnectionAdmission(ScheduledExecutorService executor) {
+        this(executor, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates an admission controller admitting all connections right away, refilling its tokens as the ticker
+     * advances.
+     */
+    ConnectionAdmission(ScheduledExecutorService executor, Ticker ticker) {
+        this.executor = executor;
+        this.ticker = ticker;
+        this.lastRefillNanos = ticker.read();
+    }
+
+    /**
+     * Configures the admission limits.
+     *
+     * @param newRate connections admitted per second on average, 0 for no limit
+     * @param newBurst connections admitted at once after a quiet period, at least 1
+     * @param newMaxBootstrapping admitted connections still bootstrapping at most, 0 for no limit
+     * @param newBootstrapTimeoutMillis time after which an admitted connection no longer counts as bootstrapping
+     */
+    synchronized void configure(double newRate, int newBurst, int newMaxBootstrapping,
+            long newBootstrapTimeoutMillis) {
+        this.rate = newRate;
+        this.burst = Math.max(1, newBurst);
+        this.tokens = this.burst;
+        this.maxBootstrapping = newMaxBootstrapping;
+        this.bootstrapTimeoutMillis = newBootstrapTimeoutMillis;
+    }
+
+    /**
+     * Runs the task on the executor once the connection is admitted. The task is dropped if the connection is
+     * closed before.
+     */
+    void admit(Channel channel, Runnable task) {
+        Admission admission = new Admission(channel, task);
+        channel.attr(ADMISSION).set(admission);
+        channel.closeFuture().addListener(future -> release(admission));
+        synchronized (this) {
+            waiting.add(admission);
+        }
+        drain();
+    }
+
+    /**
+     * Reports that the connection of the channel is done bootstrapping.
+     */
+    static void release(Channel channel) {
+        Admission admission = channel.attr(ADMISSION).get();
+        if (admission != null) {
+            admission.controller().release(admission);
+        }
+    }
+
+    /**
+     * Returns the number of connections waiting to be admitted.
+     */
+    synchronized int getQueueDepth() {
+        return waiting.size();
+    }
+
+    /**
+     * Returns the number of admitted connections still bootstrapping.
+     */
+    synchronized int getBootstrapping() {
+        return bootstrapping;
+    }
+
+    private void release(Admission admission) {
+        synchronized (this) {
+            if (!admission.admitted || admission.released) {
+                return;
+            }
+            admission.released = true;
+            bootstrapping--;
+            if (admission.timeout != null) {
+                admission.timeout.cancel(false);
+            }
+        }
+        drain();
+    }
+
+    private void drain() {
+        List<Admission> admitted = new ArrayList<>();
+        synchronized (this) {
+            refill();
+            while (!waiting.isEmpty() && (maxBootstrapping <= 0 || bootstrapping < maxBootstrapping)) {
+                Admission admission = waiting.peek();
+                if (!admission.channel.isOpen()) {
+                    waiting.poll();
+                    continue;
+                }
+                if (rate > 0) {
+                    if (tokens < 1) {
+                        scheduleDrain((long) Math.ceil((1 - tokens) * TimeUnit.SECONDS.toMillis(1) / rate));
+                        break;
+                    }
+                    tokens--;
+                }
+                waiting.poll();
+                admission.admitted = true;
+                bootstrapping++;
+                if (bootstrapTimeoutMillis > 0) {
+                    admission.timeout = executor.schedule(() -> {
+                        LOG.debug("Connection {} still bootstrapping after {}ms", admission.channel,
+                                bootstrapTimeoutMillis);
+                        release(admission);
+                    }, bootstrapTimeoutMillis, TimeUnit.MILLISECONDS);
+                }
+                admitted.add(admission);
+            }
+            if (!waiting.isEmpty()) {
+                LOG.debug("{} connections waiting for admission, {} bootstrapping", waiting.size(), bootstrapping);
+            }
+        }
+        for (Admission admission : admitted) {
+            executor.execute(admission.task);
+        }
+    }
+
+    private void refill() {
+        long now = ticker.read();
+        if (rate > 0) {
+            tokens = Math.min(burst, tokens + (now - lastRefillNanos) * rate / TimeUnit.SECONDS.toNanos(1));
+        }
+        lastRefillNanos = now;
+    }
+
+    private void scheduleDrain(long delayMillis) {
+        if (!drainScheduled) {
+            drainScheduled = true;
+            executor.schedule(() -> {
+                synchronized (this) {
+                    drainScheduled = false;
+                }
+                drain();
+            }, Math.max(1, delayMillis), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private final class Admission {
+        final Channel channel;
+        final Runnable task;
+        // guarded by the controller
+        boolean admitted;
+        boolean released;
+        ScheduledFuture<?> timeout;
+
+        Admission(Channel channel, Runnable task) {
+            this.channel = channel;
+            this.task = task;
+        }
+
+        ConnectionAdmission controller() {
+            return ConnectionAdmission.this;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.impl;
+
+import io.netty.channel.Channel;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.ConnectionType;
+
+/**
+ * Registry of the open connections, indexed by client, by channel, by remote address and by connection type, so
+ * that the lookups done for every new or closed connection do not scan all the others.
+ *
+ * <p>The lookups by client and by channel are lock free. The address and type indexes, and the updates of all the
+ * indexes, are guarded by the registry, so that a connection is seen in all the indexes or in none of them.
+ */
+final class ConnectionRegistry {
+
+    private final Map<OvsdbClient, Entry> byClient = new ConcurrentHashMap<>();
+    private final Map<Channel, OvsdbClient> byChannel = new ConcurrentHashMap<>();
+    // guarded by this
+    private final Map<InetAddress, Set<OvsdbClient>> byRemoteAddress = new HashMap<>();
+    private final Map<ConnectionType, Set<OvsdbClient>> byType = new EnumMap<>(ConnectionType.class);
+
+    /**
+     * Registers the connection of the client. The remote address is resolved now, since it is needed again once
+     * the channel is closed.
+     */
+    synchronized void add(OvsdbClient client, Channel channel) {
+        Entry entry = new Entry(channel, client.getConnectionInfo().getRemoteAddress(),
+                client.getConnectionInfo().getType());
+        Entry previous = byClient.put(client, entry);
+        if (previous != null) {
+            unindex(client, previous);
+        }
+        byChannel.put(channel, client);
+        byRemoteAddress.computeIfAbsent(entry.remoteAddress, key -> new LinkedHashSet<>()).add(client);
+        byType.computeIfAbsent(entry.type, key -> new LinkedHashSet<>()).add(client);
+    }
+
+    /**
+     * Unregisters the connection of the client.
+     *
+     * @return true if the client was registered, only one of concurrent callers gets true
+     */
+    synchronized boolean remove(OvsdbClient client) {
+        Entry entry = byClient.remove(client);
+        if (entry == null) {
+            return false;
+        }
+        unindex(client, entry);
+        return true;
+    }
+
+    Channel getChannel(OvsdbClient client) {
+        Entry entry = byClient.get(client);
+        return entry == null ? null : entry.channel;
+    }
+
+    OvsdbClient getClient(Channel channel) {
+        return channel == null ? null : byChannel.get(channel);
+    }
+
+    Set<OvsdbClient> getClients() {
+        return byClient.keySet();
+    }
+
+    /**
+     * Returns the other clients of the given type connected from the same remote address as the client.
+     */
+    synchronized List<OvsdbClient> getClientsFromSameNode(OvsdbClient client, ConnectionType type) {
+        Entry entry = byClient.get(client);
+        InetAddress remoteAddress = entry != null ? entry.remoteAddress
+                : client.getConnectionInfo().getRemoteAddress();
+        Set<OvsdbClient> clients = byRemoteAddress.getOrDefault(remoteAddress, Collections.emptySet());
+        Set<OvsdbClient> ofType = byType.getOrDefault(type, Collections.emptySet());
+        List<OvsdbClient> sameNode = new ArrayList<>(clients.size());
+        for (OvsdbClient other : clients) {
+            if (!other.equals(client) && ofType.contains(other)) {
+                sameNode.add(other);
+            }
+        }
+        return sameNode;
+    }
+
+    private void unindex(OvsdbClient client, Entry entry) {
+        byChannel.remove(entry.channel, client);
+        removeFromIndex(byRemoteAddress, entry.remoteAddress, client);
+        removeFromIndex(byType, entry.type, client);
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<OvsdbClient>> index, K key, OvsdbClient client) {
+        Set<OvsdbClient> clients = index.get(key);
+        if (clients != null && clients.remove(client) && clients.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static final class Entry {
+        final Channel channel;
+        final InetAddress remoteAddress;
+        final ConnectionType type;
+
+        Entry(Channel channel, InetAddress remoteAddress, ConnectionType type) {
+            this.channel = channel;
+            this.remoteAddress = remoteAddress;
+            this.type = type;
+        }
+    }
+}
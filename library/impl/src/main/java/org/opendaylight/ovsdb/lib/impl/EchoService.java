@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.impl;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.ovsdb.lib.EchoServiceCallbackFilters;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Liveness probing of a connection with echo requests, sent only when nothing was received from the peer for the
+ * probe interval.
+ *
+ * <p>The timeout of a probe is derived from the smoothed round trip time of the previous ones, the way TCP derives
+ * its retransmission timeout, and doubles with every probe missed in a row. A probe whose answer is late while
+ * other data arrived from the peer is not counted as missed: the peer is busy, not gone. The connection is closed
+ * once the peer stayed silent through the maximum number of missed probes of the callback filters.
+ *
+ * <p>No probe is sent, or counted as missed, while reading from the connection is suspended. While it runs, the
+ * service replaces the idle state and read timeout handlers of the connection. All the state is confined to the
+ * event loop of the channel.
+ */
+final class EchoService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EchoService.class);
+    private static final String ACTIVITY_HANDLER = "echoActivity";
+    private static final long MIN_TIMEOUT_MILLIS = 1000;
+    private static final int MAX_BACKOFF = 6;
+
+    private final OvsdbClient client;
+    private final Channel channel;
+    private final EchoServiceCallbackFilters callbackFilters;
+    private final long intervalNanos;
+    private final long maxTimeoutMillis;
+
+    private long lastReadNanos;
+    private long smoothedRttNanos = -1;
+    private long rttVariationNanos;
+    private int consecutiveMisses;
+    private ScheduledFuture<?> nextProbe;
+    private boolean stopped;
+
+    EchoService(OvsdbClient client, Channel channel, EchoServiceCallbackFilters callbackFilters,
+            long intervalMillis) {
+        this.client = client;
+        this.channel = channel;
+        this.callbackFilters = callbackFilters;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        // a probe is never given longer than the interval to be answered
+        this.maxTimeoutMillis = Math.max(MIN_TIMEOUT_MILLIS, intervalMillis);
+    }
+
+    void start() {
+        channel.eventLoop().execute(() -> {
+            if (stopped || !channel.isActive()) {
+                return;
+            }
+            ChannelPipeline pipeline = channel.pipeline();
+            pipeline.addFirst(ACTIVITY_HANDLER, new ActivityHandler());
+            OvsdbConnectionService.removeIdleHandlers(pipeline);
+            lastReadNanos = System.nanoTime();
+            scheduleProbe(intervalNanos);
+            LOG.debug("Echo service started on {}", channel);
+        });
+    }
+
+    void stop() {
+        channel.eventLoop().execute(() -> {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+            if (nextProbe != null) {
+                nextProbe.cancel(false);
+            }
+            ChannelPipeline pipeline = channel.pipeline();
+            if (pipeline.get(ACTIVITY_HANDLER) != null) {
+                pipeline.remove(ACTIVITY_HANDLER);
+                if (channel.isActive()) {
+                    OvsdbConnectionService.addIdleHandlers(pipeline);
+                }
+            }
+            LOG.debug("Echo service stopped on {}", channel);
+        });
+    }
+
+    private void scheduleProbe(long delayNanos) {
+        nextProbe = channel.eventLoop().schedule(this::probeIfIdle, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void probeIfIdle() {
+        if (stopped || !channel.isActive()) {
+            return;
+        }
+        if (!channel.config().isAutoRead()) {
+            // reading is suspended, the peer cannot be heard from: probe once reading resumed for an interval
+            lastReadNanos = System.nanoTime();
+            scheduleProbe(intervalNanos);
+            return;
+        }
+        long idleNanos = System.nanoTime() - lastReadNanos;
+        if (idleNanos < intervalNanos) {
+            // data is flowing, no need to probe
+            scheduleProbe(intervalNanos - idleNanos);
+            return;
+        }
+
+        final long sentNanos = System.nanoTime();
+        final long timeoutMillis = getTimeoutMillis();
+        LOG.trace("Sending echo probe to {} with a timeout of {}ms", channel, timeoutMillis);
+        Futures.addCallback(client.echo(timeoutMillis, TimeUnit.MILLISECONDS), new FutureCallback<List<String>>() {
+            @Override
+            public void onSuccess(List<String> result) {
+                echoSucceeded(sentNanos);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                echoFailed(sentNanos, throwable);
+            }
+        }, channel.eventLoop());
+    }
+
+    private void echoSucceeded(long sentNanos) {
+        if (stopped) {
+            return;
+        }
+        long rttNanos = System.nanoTime() - sentNanos;
+        if (smoothedRttNanos < 0) {
+            smoothedRttNanos = rttNanos;
+            rttVariationNanos = rttNanos / 2;
+        } else {
+            rttVariationNanos += (Math.abs(smoothedRttNanos - rttNanos) - rttVariationNanos) / 4;
+            smoothedRttNanos += (rttNanos - smoothedRttNanos) / 8;
+        }
+        consecutiveMisses = 0;
+        callbackFilters.echoSucceeded(TimeUnit.NANOSECONDS.toMillis(rttNanos));
+        scheduleProbe(intervalNanos);
+    }
+
+    private void echoFailed(long sentNanos, Throwable cause) {
+        if (stopped || !channel.isActive()) {
+            return;
+        }
+        if (lastReadNanos - sentNanos > 0 || !channel.config().isAutoRead()) {
+            LOG.debug("Echo probe to busy peer {} not answered in time, but data is flowing or reading is suspended",
+                    channel);
+            consecutiveMisses = 0;
+            scheduleProbe(intervalNanos);
+            return;
+        }
+        consecutiveMisses++;
+        LOG.debug("Echo probe to {} missed ({} in a row)", channel, consecutiveMisses, cause);
+        callbackFilters.echoMissed(consecutiveMisses);
+        if (consecutiveMisses >= callbackFilters.getMaxMissedEchoes()) {
+            LOG.warn("Closing connection {} after {} missed echo probes", channel, consecutiveMisses);
+            channel.close();
+            return;
+        }
+        // probe again right away, with a longer timeout
+        probeIfIdle();
+    }
+
+    private long getTimeoutMillis() {
+        long timeoutMillis = smoothedRttNanos < 0 ? maxTimeoutMillis
+                : TimeUnit.NANOSECONDS.toMillis(smoothedRttNanos + 4 * rttVariationNanos);
+        timeoutMillis = Math.max(MIN_TIMEOUT_MILLIS, timeoutMillis) << Math.min(consecutiveMisses, MAX_BACKOFF);
+        return Math.min(maxTimeoutMillis, timeoutMillis);
+    }
+
+    private final class ActivityHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            lastReadNanos = System.nanoTime();
+            ctx.fireChannelRead(msg);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.impl;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The native epoll transport. The netty-transport-native-epoll dependency is optional: this class is the only one
+ * referring to it, and is only loaded once its classes are found, see
+ * {@link OvsdbConnectionService#epollUnavailabilityCause()}.
+ */
+final class EpollTransport {
+
+    private EpollTransport() {
+    }
+
+    /**
+     * Returns why the epoll transport cannot be used, null if it can.
+     */
+    static Throwable unavailabilityCause() {
+        return Epoll.isAvailable() ? null : Epoll.unavailabilityCause();
+    }
+
+    static EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+        return new EpollEventLoopGroup(threads, threadFactory);
+    }
+
+    static Class<? extends SocketChannel> socketChannelClass() {
+        return EpollSocketChannel.class;
+    }
+
+    static Class<? extends ServerChannel> serverSocketChannelClass() {
+        return EpollServerSocketChannel.class;
+    }
+
+    static Class<? extends Channel> domainSocketChannelClass() {
+        return EpollDomainSocketChannel.class;
+    }
+
+    static SocketAddress domainSocketAddress(String path) {
+        return new DomainSocketAddress(path);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.Collections;
+import org.opendaylight.ovsdb.lib.MonitorCallBack;
+import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcResultReader;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.TableSchema;
+
+/**
+ * Reads the table-updates of a monitor reply as they are received, and hands them over to the monitor callback in
+ * chunks of at most rowsPerChunk rows of a single table. Only the tokens of the row being received and the rows of
+ * the current chunk are held at any time.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class MonitorChunkReader implements JsonRpcResultReader {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final DatabaseSchema dbSchema;
+    private final DatabaseSchema boundSchema;
+    private final MonitorCallBack callback;
+    private final int rowsPerChunk;
+
+    // depth in the table-updates object, 1 inside it, 2 inside a table-update
+    private int depth;
+    private String tableName;
+    // null while the rows of a table missing from the schema are skipped
+    private TableSchema table;
+    private TableUpdate tableUpdate;
+    // tokens of the row-update being received, wrapped in an object
+    private TokenBuffer row;
+    // set once the first token is read, read by the thread completing the call
+    private volatile boolean started;
+
+    /**
+     * Creates a reader of the reply to a monitor request.
+     *
+     * @param dbSchema schema the monitor callback is invoked with
+     * @param boundSchema schema the rows are bound to
+     */
+    MonitorChunkReader(DatabaseSchema dbSchema, DatabaseSchema boundSchema, MonitorCallBack callback,
+                       int rowsPerChunk) {
+        this.dbSchema = dbSchema;
+        this.boundSchema = boundSchema;
+        this.callback = callback;
+        this.rowsPerChunk = rowsPerChunk;
+    }
+
+    @Override
+    public void readToken(JsonParser parser) throws IOException {
+        started = true;
+        JsonToken token = parser.getCurrentToken();
+        if (row != null) {
+            row.copyCurrentEvent(parser);
+        }
+        if (token.isStructStart()) {
+            depth++;
+        } else if (token.isStructEnd()) {
+            depth--;
+        }
+
+        if (row != null) {
+            if (depth == 2 && token != JsonToken.FIELD_NAME) {
+                row.writeEndObject();
+                addRow();
+            }
+        } else if (token == JsonToken.FIELD_NAME) {
+            if (depth == 1) {
+                tableName = parser.getCurrentName();
+                table = boundSchema.hasTable(tableName) ? boundSchema.table(tableName, TableSchema.class) : null;
+                tableUpdate = new TableUpdate();
+            } else if (depth == 2 && table != null) {
+                row = new TokenBuffer(OBJECT_MAPPER, false);
+                row.writeStartObject();
+                row.copyCurrentEvent(parser);
+            }
+        } else if (depth == 1 && token == JsonToken.END_OBJECT) {
+            // end of a table-update
+            deliver();
+        }
+    }
+
+    /**
+     * Returns true once the reply is being read, the monitor is then set up on the server side.
+     */
+    boolean hasStarted() {
+        return started;
+    }
+
+    private void addRow() throws IOException {
+        try (JsonParser rowParser = row.asParser()) {
+            row = null;
+            rowParser.nextToken();
+            table.rowUpdateFromJson(rowParser, tableUpdate);
+        }
+        if (tableUpdate.getRows().size() >= rowsPerChunk) {
+            deliver();
+        }
+    }
+
+    private void deliver() {
+        if (tableUpdate != null && !tableUpdate.getRows().isEmpty()) {
+            TableUpdate chunk = tableUpdate;
+            tableUpdate = new TableUpdate();
+            callback.update(new TableUpdates(Collections.singletonMap(tableName, chunk)), dbSchema);
+        }
+    }
+}
@@ -8,16 +8,21 @@
 
 package org.opendaylight.ovsdb.lib.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.channel.Channel;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -25,6 +30,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -41,6 +47,8 @@ import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.ConnectionType;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.SocketConnectionType;
 import org.opendaylight.ovsdb.lib.error.ParsingException;
+import org.opendaylight.ovsdb.lib.jsonrpc.ChannelReadGate;
+import org.opendaylight.ovsdb.lib.jsonrpc.Params;
 import org.opendaylight.ovsdb.lib.message.MonitorRequest;
 import org.opendaylight.ovsdb.lib.message.OvsdbRPC;
 import org.opendaylight.ovsdb.lib.message.TableUpdate;
@@ -67,11 +75,12 @@ public class OvsdbClientImpl implements OvsdbClient {
     private ExecutorService executorService;
     private OvsdbRPC rpc;
     private Map<String, DatabaseSchema> schemas = new HashMap<>();
-    private Map<String, CallbackContext> monitorCallbacks = new HashMap<>();
+    private Map<String, CallbackContext> monitorCallbacks = new ConcurrentHashMap<>();
     private OvsdbRPC.Callback rpcCallback;
     private OvsdbConnectionInfo connectionInfo;
     private Channel channel;
     private boolean isConnectionPublished;
+    private EchoService echoService;
     private static final int NO_TIMEOUT = -1;
 
     private static final ThreadFactory THREAD_FACTORY_SSL =
@@ -127,14 +136,24 @@ public class OvsdbClientImpl implements OvsdbClient {
                 public void update(Object node, UpdateNotification updateNotification) {
                     Object key = updateNotification.getContext();
                     CallbackContext callbackContext = monitorCallbacks.get(key);
-                    MonitorCallBack monitorCallBack = callbackContext.monitorCallBack;
+                    MonitorCallBack monitorCallBack = callbackContext != null ? callbackContext.monitorCallBack : null;
                     if (monitorCallBack == null) {
                         //ignore ?
                         LOG.info("callback received with context {}, but no known handler. Ignoring!", key);
                         return;
                     }
-                    TableUpdates updates = transformingCallback(updateNotification.getUpdates(),
-                            callbackContext.schema);
+                    TableUpdates updates;
+                    if (updateNotification.getUpdatesParser() != null) {
+                        try {
+                            updates = transformingCallback(updateNotification.getUpdatesParser(),
+                                    callbackContext.schema);
+                        } catch (IOException e) {
+                            LOG.error("Failed to parse update with context {}. Ignoring!", key, e);
+                            return;
+                        }
+                    } else {
+                        updates = transformingCallback(updateNotification.getUpdates(), callbackContext.schema);
+                    }
                     monitorCallBack.update(updates, callbackContext.schema);
                 }
 
@@ -172,6 +191,29 @@ public class OvsdbClientImpl implements OvsdbClient {
         return null;
     }
 
+    /**
+     * Streaming counterpart of {@link #transformingCallback(JsonNode, DatabaseSchema)}, binding the
+     * table-updates straight from the token stream without building an intermediate tree.
+     *
+     * @param parser parser positioned on the start of the table-updates object
+     */
+    protected TableUpdates transformingCallback(JsonParser parser, DatabaseSchema dbSchema) throws IOException {
+        Map<String, TableUpdate> tableUpdateMap = new HashMap<>();
+        DatabaseSchema databaseSchema = this.schemas.get(dbSchema.getName());
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String tableName = parser.getCurrentName();
+            parser.nextToken();
+            if (!databaseSchema.hasTable(tableName)) {
+                LOG.debug("Skipping the updates of table {} missing from schema {}", tableName, dbSchema.getName());
+                parser.skipChildren();
+                continue;
+            }
+            TableSchema table = databaseSchema.table(tableName, TableSchema.class);
+            tableUpdateMap.put(tableName, table.updatesFromJson(parser));
+        }
+        return new TableUpdates(tableUpdateMap);
+    }
+
     @Override
     public ListenableFuture<List<OperationResult>> transact(DatabaseSchema dbSchema, List<Operation> operations) {
 
@@ -184,6 +226,18 @@ public class OvsdbClientImpl implements OvsdbClient {
         return FutureTransformUtils.transformTransactResponse(rpc.transact(builder), operations);
     }
 
+    @Override
+    public ListenableFuture<List<OperationResult>> transact(DatabaseSchema dbSchema, List<Operation> operations,
+                                                            long timeout, TimeUnit unit) {
+        TransactBuilder builder = new TransactBuilder(dbSchema);
+        for (Operation operation : operations) {
+            builder.addOperation(operation);
+        }
+
+        return FutureTransformUtils.transformTransactResponse(rpc.transact(builder, unit.toMillis(timeout)),
+                operations);
+    }
+
     @Override
     public <E extends TableSchema<E>> TableUpdates monitor(final DatabaseSchema dbSchema,
                                                            List<MonitorRequest> monitorRequest,
@@ -203,8 +257,8 @@ public class OvsdbClientImpl implements OvsdbClient {
         final MonitorHandle monitorHandle = new MonitorHandle(UUID.randomUUID().toString());
         registerCallback(monitorHandle, callback, dbSchema);
 
-        ListenableFuture<JsonNode> monitor = rpc.monitor(
-            () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap));
+        ListenableFuture<JsonNode> monitor = callMonitor(
+            () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap), timeout);
         JsonNode result;
         try {
             if (timeout == NO_TIMEOUT) {
@@ -219,6 +273,36 @@ public class OvsdbClientImpl implements OvsdbClient {
         return transformingCallback(result, dbSchema);
     }
 
+    @Override
+    public <E extends TableSchema<E>> ListenableFuture<TableUpdates> monitorAsync(final DatabaseSchema dbSchema,
+                                                                                  List<MonitorRequest> monitorRequest,
+                                                                                  final MonitorCallBack callback) {
+
+        final ImmutableMap<String, MonitorRequest> reqMap = Maps.uniqueIndex(monitorRequest,
+                MonitorRequest::getTableName);
+
+        final MonitorHandle monitorHandle = new MonitorHandle(UUID.randomUUID().toString());
+        registerCallback(monitorHandle, callback, dbSchema);
+
+        ListenableFuture<JsonNode> monitor = callMonitor(
+            () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap), NO_TIMEOUT);
+        // the initial contents can be large, they are bound on the client executor rather than the event loop
+        ListenableFuture<TableUpdates> updates = Futures.transform(monitor,
+            result -> transformingCallback(result, dbSchema), executorService);
+        // the callback is registered first so that no update is missed, it goes away if the monitor is not set up
+        Futures.addCallback(updates, new FutureCallback<TableUpdates>() {
+            @Override
+            public void onSuccess(TableUpdates result) {
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                monitorCallbacks.remove(monitorHandle.getId());
+            }
+        }, MoreExecutors.directExecutor());
+        return updates;
+    }
+
     @Override
     public <E extends TableSchema<E>> TableUpdates monitor(final DatabaseSchema dbSchema,
                                                            List<MonitorRequest> monitorRequest,
@@ -239,8 +323,8 @@ public class OvsdbClientImpl implements OvsdbClient {
 
         registerCallback(monitorHandle, callback, dbSchema);
 
-        ListenableFuture<JsonNode> monitor = rpc.monitor(
-            () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap));
+        ListenableFuture<JsonNode> monitor = callMonitor(
+            () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap), timeout);
         JsonNode result;
         try {
             if (timeout == NO_TIMEOUT) {
@@ -255,6 +339,53 @@ public class OvsdbClientImpl implements OvsdbClient {
         return transformingCallback(result, dbSchema);
     }
 
+    @Override
+    public <E extends TableSchema<E>> ListenableFuture<Void> monitorInChunks(final DatabaseSchema dbSchema,
+                                                                           List<MonitorRequest> monitorRequest,
+                                                                           final MonitorCallBack callback,
+                                                                           int rowsPerChunk) {
+
+        final ImmutableMap<String, MonitorRequest> reqMap = Maps.uniqueIndex(monitorRequest,
+                MonitorRequest::getTableName);
+
+        final MonitorHandle monitorHandle = new MonitorHandle(UUID.randomUUID().toString());
+        registerCallback(monitorHandle, callback, dbSchema);
+
+        MonitorChunkReader reader = new MonitorChunkReader(dbSchema, this.schemas.get(dbSchema.getName()), callback,
+                rowsPerChunk);
+        ListenableFuture<Void> monitor = rpc.monitorStreaming(
+            () -> Arrays.asList(dbSchema.getName(), monitorHandle.getId(), reqMap), reader);
+        // the callback is registered first so that no update is missed, it goes away if the monitor is not set up;
+        // once the reply is being read the server sends the updates, whatever becomes of the rest of the reply
+        Futures.addCallback(monitor, new FutureCallback<Void>() {
+            @Override
+            public void onSuccess(Void result) {
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                if (reader.hasStarted()) {
+                    LOG.warn("Failed to read the initial contents of {}, keeping its monitor", dbSchema.getName(),
+                            throwable);
+                } else {
+                    monitorCallbacks.remove(monitorHandle.getId());
+                }
+            }
+        }, MoreExecutors.directExecutor());
+        return monitor;
+    }
+
+    /**
+     * Issues the monitor call. When the caller waits for a limited time, that is also the deadline of the call,
+     * otherwise the configured monitor timeout applies.
+     */
+    private ListenableFuture<JsonNode> callMonitor(Params params, int timeout) {
+        if (timeout == NO_TIMEOUT) {
+            return rpc.monitor(params);
+        }
+        return rpc.monitor(params, TimeUnit.SECONDS.toMillis(timeout));
+    }
+
     private void registerCallback(MonitorHandle monitorHandle, MonitorCallBack callback, DatabaseSchema schema) {
         this.monitorCallbacks.put(monitorHandle.getId(), new CallbackContext(callback, schema));
         setupUpdateListener();
@@ -292,6 +423,26 @@ public class OvsdbClientImpl implements OvsdbClient {
         return rpc.echo();
     }
 
+    @Override
+    public ListenableFuture<List<String>> echo(long timeout, TimeUnit unit) {
+        return rpc.echo(unit.toMillis(timeout));
+    }
+
+    @Override
+    public void suspendReading() {
+        ChannelReadGate.of(channel).suspend(ChannelReadGate.Reason.CLIENT_BACKLOG);
+    }
+
+    @Override
+    public void resumeReading() {
+        ChannelReadGate.of(channel).resume(ChannelReadGate.Reason.CLIENT_BACKLOG);
+    }
+
+    @Override
+    public void bootstrapComplete() {
+        ConnectionAdmission.release(channel);
+    }
+
     @Override
     public void lock(String lockId, LockAquisitionCallback lockedCallBack, LockStolenCallback stolenCallback) {
         throw new UnsupportedOperationException("not yet implemented");
@@ -308,13 +459,20 @@ public class OvsdbClientImpl implements OvsdbClient {
     }
 
     @Override
-    public void startEchoService(EchoServiceCallbackFilters callbackFilters) {
-        throw new UnsupportedOperationException("not yet implemented");
+    public synchronized void startEchoService(EchoServiceCallbackFilters callbackFilters) {
+        if (echoService != null) {
+            echoService.stop();
+        }
+        echoService = new EchoService(this, channel, callbackFilters, OvsdbConnectionService.getEchoIntervalMillis());
+        echoService.start();
     }
 
     @Override
-    public void stopEchoService() {
-        throw new UnsupportedOperationException("not yet implemented");
+    public synchronized void stopEchoService() {
+        if (echoService != null) {
+            echoService.stop();
+            echoService = null;
+        }
     }
 
     @Override
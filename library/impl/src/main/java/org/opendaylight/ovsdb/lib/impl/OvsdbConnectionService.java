@@ -11,9 +11,11 @@ package org.opendaylight.ovsdb.lib.impl;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Splitter;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
@@ -22,27 +24,30 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.handler.codec.string.StringEncoder;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
-import io.netty.util.CharsetUtil;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import java.net.InetAddress;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -52,8 +57,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
-import javax.net.ssl.SSLEngineResult.HandshakeStatus;
-import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSessionContext;
 import org.opendaylight.aaa.cert.api.ICertificateManager;
 import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.opendaylight.ovsdb.lib.OvsdbConnection;
@@ -62,9 +66,12 @@ import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.SocketConnectionType;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionListener;
 import org.opendaylight.ovsdb.lib.jsonrpc.ExceptionHandler;
 import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcDecoder;
+import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcEncoder;
 import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcEndpoint;
 import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcServiceBinderHandler;
+import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcStreamingDecoder;
 import org.opendaylight.ovsdb.lib.message.OvsdbRPC;
+import org.opendaylight.ovsdb.lib.schema.StringInterner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -97,26 +104,71 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
             = Executors.newCachedThreadPool(connectionNotifierThreadFactory);
 
     private static Set<OvsdbConnectionListener> connectionListeners = new HashSet<>();
-    private static Map<OvsdbClient, Channel> connections = new ConcurrentHashMap<>();
+    private static final ConnectionRegistry CONNECTIONS = new ConnectionRegistry();
     private static OvsdbConnection connectionService;
     private static AtomicBoolean singletonCreated = new AtomicBoolean(false);
     private static final int IDLE_READER_TIMEOUT = 30;
     private static final int READ_TIMEOUT = 180;
+    private static final String IDLE_STATE_HANDLER = "idleState";
+    private static final String READ_TIMEOUT_HANDLER = "readTimeout";
+    private static final int CONNECT_TIMEOUT_MILLIS = 30000;
     private static final String OVSDB_RPC_TASK_TIMEOUT_PARAM = "ovsdb-rpc-task-timeout";
+    private static final String OVSDB_RPC_TRANSACT_TIMEOUT_PARAM = "ovsdb-rpc-transact-timeout";
+    private static final String OVSDB_RPC_MONITOR_TIMEOUT_PARAM = "ovsdb-rpc-monitor-timeout";
+    private static final String OVSDB_RPC_GET_SCHEMA_TIMEOUT_PARAM = "ovsdb-rpc-get-schema-timeout";
+    private static final String OVSDB_RPC_ECHO_TIMEOUT_PARAM = "ovsdb-rpc-echo-timeout";
+    private static final String OVSDB_PENDING_WRITE_LIMIT_PARAM = "ovsdb-pending-write-limit";
+    private static final String OVSDB_INTERN_POOL_SIZE_PARAM = "ovsdb-intern-pool-size";
+    private static final String OVSDB_INTERN_COLUMNS_PARAM = "ovsdb-intern-columns";
     private static final String USE_SSL = "use-ssl";
     private static boolean useSSL = false;
     private static ICertificateManager certManagerSrv = null;
 
     private static int jsonRpcDecoderMaxFrameLength = 100000;
+    private static boolean jsonRpcStreamingDecoder = false;
+    private static boolean jsonRpcEncoderDirectBuffers = true;
+    private static int notificationQueueDepth = 1000;
+    private static int writeBufferLowWatermark = WriteBufferWaterMark.DEFAULT.low();
+    private static int writeBufferHighWatermark = WriteBufferWaterMark.DEFAULT.high();
+    private static int pendingWriteLimit = 1000;
+    private static int flushConsolidationLimit = 256;
+    private static int eventLoopThreads = 0;
+    private static boolean useEpoll = false;
+    // probed before the optional epoll transport is used
+    private static final String EPOLL_CLASS = "io.netty.channel.epoll.Epoll";
+    // shared by all the active and passive connections, created on first use
+    private static EventLoopGroup bossGroup = null;
+    private static EventLoopGroup workerGroup = null;
+    private static boolean epollGroups = false;
+    // serves the unix domain socket connections when the worker group is not epoll
+    private static EventLoopGroup domainSocketGroup = null;
+    // 0 keeps the defaults of the SSL context
+    private static int sslSessionCacheSize = 0;
+    private static int sslSessionTimeout = 0;
+    // null while notifications are processed on the event loop
+    private static ExecutorService notificationExecutor = null;
     private static int listenerPort = 6640;
 
+    // Shared by the endpoints and encoders of all the connections, so serializers are only built once
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .setSerializationInclusion(Include.NON_NULL);
+
     private static final StalePassiveConnectionService STALE_PASSIVE_CONNECTION_SERVICE =
             new StalePassiveConnectionService(executorService);
+    private static final ConnectionAdmission ADMISSION = new ConnectionAdmission(executorService);
+    private static int admissionRate = 0;
+    private static int admissionBurst = 0;
+    private static int admissionMaxBootstrapping = 0;
+    private static int admissionBootstrapTimeout = 60;
+    private static int reconnectBackoffBase = 2000;
+    private static int reconnectBackoffMax = 120000;
+    private static int reconnectMaxInFlight = 16;
+    private static int echoInterval = IDLE_READER_TIMEOUT;
+    private static int internPoolSize = 65536;
+    private static String internColumns = "type,external_ids";
     private static Channel serverChannel = null;
 
-    private static int retryPeriod = 100; // retry after 100 milliseconds
-
-
     public static OvsdbConnection getService() {
         if (connectionService == null) {
             connectionService = new OvsdbConnectionService();
@@ -130,54 +182,162 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
      */
     @Override
     public OvsdbClient connect(final InetAddress address, final int port) {
+        return getConnectedClient(connectAsync(address, port, CONNECT_TIMEOUT_MILLIS), address + ":" + port);
+    }
+
+    @Override
+    public OvsdbClient connectWithSsl(final InetAddress address, final int port,
+                               final SSLContext sslContext) {
+        return getConnectedClient(connectWithSslAsync(address, port, sslContext, CONNECT_TIMEOUT_MILLIS),
+                address + ":" + port);
+    }
+
+    @Override
+    public OvsdbClient connectUnixSocket(final String path) {
+        return getConnectedClient(connectUnixSocketAsync(path, CONNECT_TIMEOUT_MILLIS), path);
+    }
+
+    private static OvsdbClient getConnectedClient(ListenableFuture<OvsdbClient> future, String target) {
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            LOG.warn("Failed to connect {}", target, e);
+        }
+        return null;
+    }
+
+    /**
+     * If the SSL flag is enabled, the method internally will establish TLS communication using the default
+     * ODL certificateManager SSLContext and attributes.
+     */
+    @Override
+    public ListenableFuture<OvsdbClient> connectAsync(final InetAddress address, final int port,
+            final int connectTimeoutMillis) {
         if (useSSL) {
             if (certManagerSrv == null) {
                 LOG.error("Certificate Manager service is not available cannot establish the SSL communication.");
-                return null;
+                return Futures.immediateFailedFuture(
+                        new IllegalStateException("Certificate Manager service is not available"));
             }
-            return connectWithSsl(address, port, certManagerSrv.getServerContext());
+            return connectWithSslAsync(address, port, certManagerSrv.getServerContext(), connectTimeoutMillis);
         } else {
-            return connectWithSsl(address, port, null /* SslContext */);
+            return connectWithSslAsync(address, port, null /* SslContext */, connectTimeoutMillis);
         }
     }
 
     @Override
-    public OvsdbClient connectWithSsl(final InetAddress address, final int port,
-                               final SSLContext sslContext) {
-        try {
-            Bootstrap bootstrap = new Bootstrap();
-            bootstrap.group(new NioEventLoopGroup());
-            bootstrap.channel(NioSocketChannel.class);
-            bootstrap.option(ChannelOption.TCP_NODELAY, true);
-            bootstrap.option(ChannelOption.RCVBUF_ALLOCATOR, new AdaptiveRecvByteBufAllocator(65535, 65535, 65535));
-
-            bootstrap.handler(new ChannelInitializer<SocketChannel>() {
-                @Override
-                public void initChannel(SocketChannel channel) throws Exception {
-                    if (sslContext != null) {
-                        /* First add ssl handler if ssl context is given */
-                        SSLEngine engine =
-                            sslContext.createSSLEngine(address.toString(), port);
-                        engine.setUseClientMode(true);
-                        channel.pipeline().addLast("ssl", new SslHandler(engine));
-                    }
-                    channel.pipeline().addLast(
-                            //new LoggingHandler(LogLevel.INFO),
-                            new JsonRpcDecoder(jsonRpcDecoderMaxFrameLength),
-                            new StringEncoder(CharsetUtil.UTF_8),
-                            new IdleStateHandler(IDLE_READER_TIMEOUT, 0, 0),
-                            new ReadTimeoutHandler(READ_TIMEOUT),
-                            new ExceptionHandler());
+    public ListenableFuture<OvsdbClient> connectWithSslAsync(final InetAddress address, final int port,
+            final SSLContext sslContext, final int connectTimeoutMillis) {
+        if (sslContext != null) {
+            configureSessionCache(sslContext.getClientSessionContext());
+        }
+        Bootstrap bootstrap = new Bootstrap();
+        bootstrap.group(getWorkerGroup());
+        bootstrap.channel(getSocketChannelClass());
+        bootstrap.option(ChannelOption.TCP_NODELAY, true);
+        bootstrap.option(ChannelOption.RCVBUF_ALLOCATOR, new AdaptiveRecvByteBufAllocator(65535, 65535, 65535));
+        bootstrap.option(ChannelOption.WRITE_BUFFER_WATER_MARK, newWriteBufferWaterMark());
+        bootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis);
+
+        bootstrap.handler(new ChannelInitializer<SocketChannel>() {
+            @Override
+            public void initChannel(SocketChannel channel) throws Exception {
+                if (sslContext != null) {
+                    /* First add ssl handler if ssl context is given */
+                    SSLEngine engine =
+                        sslContext.createSSLEngine(address.toString(), port);
+                    engine.setUseClientMode(true);
+                    channel.pipeline().addLast("ssl", new SslHandler(engine));
                 }
-            });
+                addJsonRpcHandlers(channel);
+            }
+        });
 
-            ChannelFuture future = bootstrap.connect(address, port).sync();
-            Channel channel = future.channel();
-            return getChannelClient(channel, ConnectionType.ACTIVE, SocketConnectionType.SSL);
-        } catch (InterruptedException e) {
-            LOG.warn("Failed to connect {}:{}", address, port, e);
+        return getClientFuture(bootstrap.connect(address, port), SocketConnectionType.SSL, address + ":" + port);
+    }
+
+    /**
+     * Connects through the unix domain socket at the given path, which needs the native epoll transport.
+     */
+    @Override
+    public ListenableFuture<OvsdbClient> connectUnixSocketAsync(final String path, final int connectTimeoutMillis) {
+        Throwable epollUnavailabilityCause = epollUnavailabilityCause();
+        if (epollUnavailabilityCause != null) {
+            return Futures.immediateFailedFuture(new UnsupportedOperationException(
+                    "Unix domain sockets need the epoll transport", epollUnavailabilityCause));
         }
-        return null;
+        Bootstrap bootstrap = new Bootstrap();
+        bootstrap.group(getDomainSocketGroup());
+        bootstrap.channel(EpollTransport.domainSocketChannelClass());
+        bootstrap.option(ChannelOption.RCVBUF_ALLOCATOR, new AdaptiveRecvByteBufAllocator(65535, 65535, 65535));
+        bootstrap.option(ChannelOption.WRITE_BUFFER_WATER_MARK, newWriteBufferWaterMark());
+        bootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis);
+
+        bootstrap.handler(new ChannelInitializer<Channel>() {
+            @Override
+            public void initChannel(Channel channel) throws Exception {
+                addJsonRpcHandlers(channel);
+            }
+        });
+
+        return getClientFuture(bootstrap.connect(EpollTransport.domainSocketAddress(path)),
+                SocketConnectionType.NON_SSL, path);
+    }
+
+    private static ListenableFuture<OvsdbClient> getClientFuture(ChannelFuture connectFuture,
+            SocketConnectionType socketConnType, String target) {
+        SettableFuture<OvsdbClient> clientFuture = SettableFuture.create();
+        connectFuture.addListener((ChannelFuture future) -> {
+            if (future.isSuccess()) {
+                clientFuture.set(getChannelClient(future.channel(), ConnectionType.ACTIVE, socketConnType));
+            } else {
+                LOG.debug("Failed to connect {}", target, future.cause());
+                clientFuture.setException(future.cause());
+            }
+        });
+        return clientFuture;
+    }
+
+    private static void addJsonRpcHandlers(Channel channel) {
+        addFlushConsolidationHandler(channel);
+        channel.pipeline().addLast(
+                newJsonRpcDecoder(),
+                new JsonRpcEncoder(OBJECT_MAPPER, jsonRpcEncoderDirectBuffers));
+        addIdleHandlers(channel.pipeline());
+        channel.pipeline().addLast(new ExceptionHandler());
+    }
+
+    /**
+     * Adds the fixed liveness handlers, which probe a connection idle for 30s and close it once idle for 180s, not
+     * counting the time reading from it is suspended, before the exception handler if there is one.
+     */
+    static void addIdleHandlers(ChannelPipeline pipeline) {
+        IdleStateHandler idleStateHandler = new IdleStateHandler(IDLE_READER_TIMEOUT, 0, 0);
+        ReadTimeoutHandler readTimeoutHandler = new SuspendAwareReadTimeoutHandler(READ_TIMEOUT, TimeUnit.SECONDS);
+        if (pipeline.get(ExceptionHandler.class) != null) {
+            String exceptionHandler = pipeline.context(ExceptionHandler.class).name();
+            pipeline.addBefore(exceptionHandler, IDLE_STATE_HANDLER, idleStateHandler);
+            pipeline.addBefore(exceptionHandler, READ_TIMEOUT_HANDLER, readTimeoutHandler);
+        } else {
+            pipeline.addLast(IDLE_STATE_HANDLER, idleStateHandler);
+            pipeline.addLast(READ_TIMEOUT_HANDLER, readTimeoutHandler);
+        }
+    }
+
+    /**
+     * Removes the fixed liveness handlers, when the echo service takes over.
+     */
+    static void removeIdleHandlers(ChannelPipeline pipeline) {
+        if (pipeline.get(IDLE_STATE_HANDLER) != null) {
+            pipeline.remove(IDLE_STATE_HANDLER);
+        }
+        if (pipeline.get(READ_TIMEOUT_HANDLER) != null) {
+            pipeline.remove(READ_TIMEOUT_HANDLER);
+        }
+    }
+
+    static long getEchoIntervalMillis() {
+        return TimeUnit.SECONDS.toMillis(echoInterval);
     }
 
     @Override
@@ -185,14 +345,14 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
         if (client == null) {
             return;
         }
-        Channel channel = connections.get(client);
+        Channel channel = CONNECTIONS.getChannel(client);
         if (channel != null) {
             //It's an explicit disconnect from user, so no need to notify back
             //to user about the disconnect.
             client.setConnectionPublished(false);
             channel.disconnect();
         }
-        connections.remove(client);
+        CONNECTIONS.remove(client);
     }
 
     @Override
@@ -218,11 +378,17 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
 
     private static OvsdbClient getChannelClient(Channel channel, ConnectionType type,
         SocketConnectionType socketConnType) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        objectMapper.setSerializationInclusion(Include.NON_NULL);
-
-        JsonRpcEndpoint factory = new JsonRpcEndpoint(objectMapper, channel);
+        JsonRpcEndpoint factory = new JsonRpcEndpoint(OBJECT_MAPPER, channel);
+        if (notificationExecutor != null) {
+            factory.setNotificationExecutor(notificationExecutor, notificationQueueDepth);
+        }
+        factory.setPendingWriteLimit(pendingWriteLimit);
+        JsonRpcStreamingDecoder streamingDecoder = channel.pipeline().get(JsonRpcStreamingDecoder.class);
+        if (streamingDecoder != null) {
+            // the replies to streaming calls are handed over to their reader as they are decoded, and the deadline
+            // of a call no longer applies once its result is being received
+            streamingDecoder.setResultReaders(factory::startResult);
+        }
         JsonRpcServiceBinderHandler binderHandler = new JsonRpcServiceBinderHandler(factory);
         binderHandler.setContext(channel);
         channel.pipeline().addLast(binderHandler);
@@ -230,7 +396,7 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
         OvsdbRPC rpc = factory.getClient(channel, OvsdbRPC.class);
         OvsdbClientImpl client = new OvsdbClientImpl(rpc, channel, type, socketConnType);
         client.setConnectionPublished(true);
-        connections.put(client, channel);
+        CONNECTIONS.add(client, channel);
         ChannelFuture closeFuture = channel.closeFuture();
         closeFuture.addListener(new ChannelConnectionHandler(client));
         return client;
@@ -307,12 +473,13 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
      */
     private static void ovsdbManagerWithSsl(int port, final SSLContext sslContext, final String[] protocols,
             final String[] cipherSuites) {
-        EventLoopGroup bossGroup = new NioEventLoopGroup();
-        EventLoopGroup workerGroup = new NioEventLoopGroup();
+        if (sslContext != null) {
+            configureSessionCache(sslContext.getServerSessionContext());
+        }
         try {
             ServerBootstrap serverBootstrap = new ServerBootstrap();
-            serverBootstrap.group(bossGroup, workerGroup)
-                    .channel(NioServerSocketChannel.class)
+            serverBootstrap.group(getBossGroup(), getWorkerGroup())
+                    .channel(getServerSocketChannelClass())
                     .option(ChannelOption.SO_BACKLOG, 100)
                     .handler(new LoggingHandler(LogLevel.INFO))
                     .childHandler(new ChannelInitializer<SocketChannel>() {
@@ -341,12 +508,7 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
                                 channel.pipeline().addLast("ssl", new SslHandler(engine));
                             }
 
-                            channel.pipeline().addLast(
-                                 new JsonRpcDecoder(jsonRpcDecoderMaxFrameLength),
-                                 new StringEncoder(CharsetUtil.UTF_8),
-                                 new IdleStateHandler(IDLE_READER_TIMEOUT, 0, 0),
-                                 new ReadTimeoutHandler(READ_TIMEOUT),
-                                 new ExceptionHandler());
+                            addJsonRpcHandlers(channel);
 
                             handleNewPassiveConnection(channel);
                         }
@@ -354,6 +516,7 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
             serverBootstrap.option(ChannelOption.TCP_NODELAY, true);
             serverBootstrap.option(ChannelOption.RCVBUF_ALLOCATOR,
                     new AdaptiveRecvByteBufAllocator(65535, 65535, 65535));
+            serverBootstrap.childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, newWriteBufferWaterMark());
             // Start the server.
             ChannelFuture channelFuture = serverBootstrap.bind(port).sync();
             Channel serverListenChannel = channelFuture.channel();
@@ -362,10 +525,113 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
             serverListenChannel.closeFuture().sync();
         } catch (InterruptedException e) {
             LOG.error("Thread interrupted", e);
-        } finally {
-            // Shut down all event loops to terminate all threads.
-            bossGroup.shutdownGracefully();
-            workerGroup.shutdownGracefully();
+        }
+    }
+
+    private static synchronized EventLoopGroup getWorkerGroup() {
+        if (workerGroup == null) {
+            epollGroups = useEpoll && isEpollAvailable();
+            workerGroup = newEventLoopGroup(eventLoopThreads, "ovsdb-worker");
+            LOG.info("OVSDB connections served by {} {} event loop threads",
+                    eventLoopThreads > 0 ? eventLoopThreads : "default", epollGroups ? "epoll" : "nio");
+        }
+        return workerGroup;
+    }
+
+    private static synchronized EventLoopGroup getBossGroup() {
+        if (bossGroup == null) {
+            // the worker group decides the transport
+            getWorkerGroup();
+            bossGroup = newEventLoopGroup(1, "ovsdb-boss");
+        }
+        return bossGroup;
+    }
+
+    private static synchronized EventLoopGroup getDomainSocketGroup() {
+        // the worker group decides the transport
+        getWorkerGroup();
+        if (epollGroups) {
+            return workerGroup;
+        }
+        if (domainSocketGroup == null) {
+            domainSocketGroup = EpollTransport.newEventLoopGroup(1, new DefaultThreadFactory("ovsdb-unix", true));
+        }
+        return domainSocketGroup;
+    }
+
+    private static EventLoopGroup newEventLoopGroup(int threads, String poolName) {
+        DefaultThreadFactory threadFactory = new DefaultThreadFactory(poolName, true);
+        return epollGroups ? EpollTransport.newEventLoopGroup(threads, threadFactory)
+                : new NioEventLoopGroup(threads, threadFactory);
+    }
+
+    private static boolean isEpollAvailable() {
+        Throwable cause = epollUnavailabilityCause();
+        if (cause == null) {
+            return true;
+        }
+        LOG.warn("Epoll transport is not available, falling back to nio", cause);
+        return false;
+    }
+
+    /**
+     * Returns why the epoll transport cannot be used, null if it can. The netty-transport-native-epoll dependency
+     * is optional, {@link EpollTransport} is only loaded once its classes are found.
+     */
+    static Throwable epollUnavailabilityCause() {
+        try {
+            Class.forName(EPOLL_CLASS, false, OvsdbConnectionService.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return e;
+        }
+        return EpollTransport.unavailabilityCause();
+    }
+
+    private static Class<? extends SocketChannel> getSocketChannelClass() {
+        return epollGroups ? EpollTransport.socketChannelClass() : NioSocketChannel.class;
+    }
+
+    private static Class<? extends ServerChannel> getServerSocketChannelClass() {
+        return epollGroups ? EpollTransport.serverSocketChannelClass() : NioServerSocketChannel.class;
+    }
+
+    private static ByteToMessageDecoder newJsonRpcDecoder() {
+        if (jsonRpcStreamingDecoder) {
+            return new JsonRpcStreamingDecoder(jsonRpcDecoderMaxFrameLength);
+        }
+        return new JsonRpcDecoder(jsonRpcDecoderMaxFrameLength);
+    }
+
+    /**
+     * Sizes the session cache of the SSL context, so that reconnecting switches resume their sessions with an
+     * abbreviated handshake. Active connections resume their sessions too, their engines are created for the
+     * address and port of the switch.
+     */
+    private static void configureSessionCache(SSLSessionContext sessionContext) {
+        if (sslSessionCacheSize > 0) {
+            sessionContext.setSessionCacheSize(sslSessionCacheSize);
+        }
+        if (sslSessionTimeout > 0) {
+            sessionContext.setSessionTimeout(sslSessionTimeout);
+        }
+    }
+
+    private static WriteBufferWaterMark newWriteBufferWaterMark() {
+        if (writeBufferLowWatermark > writeBufferHighWatermark) {
+            LOG.warn("Write buffer low watermark {} above high watermark {}, using the defaults",
+                    writeBufferLowWatermark, writeBufferHighWatermark);
+            return WriteBufferWaterMark.DEFAULT;
+        }
+        return new WriteBufferWaterMark(writeBufferLowWatermark, writeBufferHighWatermark);
+    }
+
+    /**
+     * Consolidates the flushes of the requests written in a burst, after the SSL handler if any, so that they
+     * also end up in fewer SSL records.
+     */
+    private static void addFlushConsolidationHandler(Channel channel) {
+        if (flushConsolidationLimit > 0) {
+            channel.pipeline().addLast(new FlushConsolidationHandler(flushConsolidationLimit, true));
         }
     }
 
@@ -392,110 +658,37 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
         }, connectionNotifierService);
     }
 
-    private static void handleNewPassiveConnection(final Channel channel) {
+    /**
+     * Sets up the client of a new passive connection right away, so that it answers the echo requests of the switch
+     * while it waits for its admission, and delays only the probe and the notification of the listeners.
+     */
+    static void handleNewPassiveConnection(final Channel channel) {
         if (!channel.isOpen()) {
             LOG.warn("Channel {} is not open, skipped further processing of the connection.",channel);
             return;
         }
         SslHandler sslHandler = (SslHandler) channel.pipeline().get("ssl");
         if (sslHandler != null) {
-            class HandleNewPassiveSslRunner implements Runnable {
-                public SslHandler sslHandler;
-                public final Channel channel;
-                private int retryTimes;
-
-                HandleNewPassiveSslRunner(Channel channel, SslHandler sslHandler) {
-                    this.channel = channel;
-                    this.sslHandler = sslHandler;
-                    this.retryTimes = 3;
+            // the handshake starts once the channel is active, the peer certificate is verified by then
+            sslHandler.handshakeFuture().addListener(handshakeFuture -> {
+                if (!handshakeFuture.isSuccess()) {
+                    LOG.error("Ssl handshake fail. channel {}", channel, handshakeFuture.cause());
+                    channel.close();
+                    return;
                 }
-
-                private void retry() {
-                    if (retryTimes > 0) {
-                        executorService.schedule(this,  retryPeriod, TimeUnit.MILLISECONDS);
-                    } else {
-                        LOG.debug("channel closed {}", channel);
-                        channel.disconnect();
-                    }
-                    retryTimes--;
-                }
-
-                @Override
-                public void run() {
-                    HandshakeStatus status = sslHandler.engine().getHandshakeStatus();
-                    LOG.debug("Handshake status {}", status);
-                    switch (status) {
-                        case FINISHED:
-                        case NOT_HANDSHAKING:
-                            if (sslHandler.engine().getSession().getCipherSuite()
-                                    .equals("SSL_NULL_WITH_NULL_NULL")) {
-                                // Not begin handshake yet. Retry later.
-                                LOG.debug("handshake not begin yet {}", status);
-                                retry();
-                            } else {
-                              //Check if peer is trusted before notifying listeners
-                                try {
-                                    sslHandler.engine().getSession().getPeerCertificates();
-                                    //Handshake done. Notify listener.
-                                    OvsdbClient client = getChannelClient(channel, ConnectionType.PASSIVE,
-                                        SocketConnectionType.SSL);
-                                    handleNewPassiveConnection(client);
-                                } catch (SSLPeerUnverifiedException e) {
-                                    //Trust manager is still checking peer certificate. Retry later
-                                    LOG.debug("Peer certifiacte is not verified yet {}", status);
-                                    retry();
-                                }
-                            }
-                            break;
-
-                        case NEED_UNWRAP:
-                        case NEED_TASK:
-                            //Handshake still ongoing. Retry later.
-                            LOG.debug("handshake not done yet {}", status);
-                            retry();
-                            break;
-
-                        case NEED_WRAP:
-                            if (sslHandler.engine().getSession().getCipherSuite()
-                                    .equals("SSL_NULL_WITH_NULL_NULL")) {
-                                /* peer not authenticated. No need to notify listener in this case. */
-                                LOG.error("Ssl handshake fail. channel {}", channel);
-                                channel.disconnect();
-                            } else {
-                                /*
-                                 * peer is authenticated. Give some time to wait for completion.
-                                 * If status is still NEED_WRAP, client might already disconnect.
-                                 * This happens when the first time client connects to controller in two-way handshake.
-                                 * After obtaining controller certificate, client will disconnect and start
-                                 * new connection with controller certificate it obtained.
-                                 * In this case no need to do anything for the first connection attempt. Just skip
-                                 * since client will reconnect later.
-                                 */
-                                LOG.debug("handshake not done yet {}", status);
-                                retry();
-                            }
-                            break;
-
-                        default:
-                            LOG.error("unknown hadshake status {}", status);
-                    }
-                }
-            }
-
-            executorService.schedule(new HandleNewPassiveSslRunner(channel, sslHandler),
-                    retryPeriod, TimeUnit.MILLISECONDS);
-        } else {
-            executorService.execute(() -> {
-                OvsdbClient client = getChannelClient(channel, ConnectionType.PASSIVE,
-                    SocketConnectionType.NON_SSL);
-                handleNewPassiveConnection(client);
+                LOG.debug("Ssl handshake done. channel {}", channel);
+                OvsdbClient client = getChannelClient(channel, ConnectionType.PASSIVE, SocketConnectionType.SSL);
+                ADMISSION.admit(channel, () -> handleNewPassiveConnection(client));
             });
+        } else {
+            OvsdbClient client = getChannelClient(channel, ConnectionType.PASSIVE, SocketConnectionType.NON_SSL);
+            ADMISSION.admit(channel, () -> handleNewPassiveConnection(client));
         }
     }
 
     public static void channelClosed(final OvsdbClient client) {
         LOG.info("Connection closed {}", client.getConnectionInfo().toString());
-        connections.remove(client);
+        CONNECTIONS.remove(client);
         if (client.isConnectionPublished()) {
             for (OvsdbConnectionListener listener : connectionListeners) {
                 listener.disconnected(client);
@@ -506,37 +699,39 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
 
     @Override
     public Collection<OvsdbClient> getConnections() {
-        return connections.keySet();
+        return CONNECTIONS.getClients();
     }
 
     @Override
     public void close() throws Exception {
         LOG.info("OvsdbConnectionService closed");
         JsonRpcEndpoint.close();
+        if (notificationExecutor != null) {
+            notificationExecutor.shutdownNow();
+        }
+        synchronized (OvsdbConnectionService.class) {
+            if (bossGroup != null) {
+                bossGroup.shutdownGracefully();
+                bossGroup = null;
+            }
+            if (workerGroup != null) {
+                workerGroup.shutdownGracefully();
+                workerGroup = null;
+            }
+            if (domainSocketGroup != null) {
+                domainSocketGroup.shutdownGracefully();
+                domainSocketGroup = null;
+            }
+        }
     }
 
     @Override
     public OvsdbClient getClient(Channel channel) {
-        for (OvsdbClient client : connections.keySet()) {
-            Channel ctx = connections.get(client);
-            if (ctx.equals(channel)) {
-                return client;
-            }
-        }
-        return null;
+        return CONNECTIONS.getClient(channel);
     }
 
     private static List<OvsdbClient> getPassiveClientsFromSameNode(OvsdbClient ovsdbClient) {
-        List<OvsdbClient> passiveClients = new ArrayList<>();
-        for (OvsdbClient client : connections.keySet()) {
-            if (!client.equals(ovsdbClient)
-                    && client.getConnectionInfo().getRemoteAddress()
-                            .equals(ovsdbClient.getConnectionInfo().getRemoteAddress())
-                    && client.getConnectionInfo().getType() == ConnectionType.PASSIVE) {
-                passiveClients.add(client);
-            }
-        }
-        return passiveClients;
+        return CONNECTIONS.getClientsFromSameNode(ovsdbClient, ConnectionType.PASSIVE);
     }
 
     public static void notifyListenerForPassiveConnection(final OvsdbClient client) {
@@ -553,6 +748,42 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
         JsonRpcEndpoint.setReaperInterval(timeout);
     }
 
+    /**
+     * Blueprint property setter method. Sets the timeout (in millisecond) of transact rpcs, configured by the
+     * ovsdb-rpc-transact-timeout option. A value of 0 falls back to ovsdb-rpc-task-timeout.
+     * @param timeout transact timeout (default : 0)
+     */
+    public void setOvsdbRpcTransactTimeout(int timeout) {
+        JsonRpcEndpoint.setMethodTimeout("transact", timeout);
+    }
+
+    /**
+     * Blueprint property setter method. Sets the timeout (in millisecond) of monitor rpcs, configured by the
+     * ovsdb-rpc-monitor-timeout option. A value of 0 falls back to ovsdb-rpc-task-timeout.
+     * @param timeout monitor timeout (default : 60000)
+     */
+    public void setOvsdbRpcMonitorTimeout(int timeout) {
+        JsonRpcEndpoint.setMethodTimeout("monitor", timeout);
+    }
+
+    /**
+     * Blueprint property setter method. Sets the timeout (in millisecond) of get_schema rpcs, configured by the
+     * ovsdb-rpc-get-schema-timeout option. A value of 0 falls back to ovsdb-rpc-task-timeout.
+     * @param timeout get_schema timeout (default : 0)
+     */
+    public void setOvsdbRpcGetSchemaTimeout(int timeout) {
+        JsonRpcEndpoint.setMethodTimeout("get_schema", timeout);
+    }
+
+    /**
+     * Blueprint property setter method. Sets the timeout (in millisecond) of echo rpcs, configured by the
+     * ovsdb-rpc-echo-timeout option. A value of 0 falls back to ovsdb-rpc-task-timeout.
+     * @param timeout echo timeout (default : 0)
+     */
+    public void setOvsdbRpcEchoTimeout(int timeout) {
+        JsonRpcEndpoint.setMethodTimeout("echo", timeout);
+    }
+
     /**
      * Set useSSL flag.
      *
@@ -583,6 +814,316 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
         LOG.info("Json Rpc Decoder Max Frame Length set to : {}", jsonRpcDecoderMaxFrameLength);
     }
 
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the value of json rpc streaming
+     * decoder flag to the value configured for config option (json-rpc-streaming-decoder) in the configuration
+     * file. When enabled, incoming messages are decoded with the non-blocking {@link JsonRpcStreamingDecoder}
+     * instead of the framing {@link JsonRpcDecoder}. This option is only configured at the boot time of the
+     * controller. Any change at the run time will have no impact.
+     * @param streaming true to use the streaming decoder (default : false)
+     */
+    public void setJsonRpcStreamingDecoder(boolean streaming) {
+        jsonRpcStreamingDecoder = streaming;
+        LOG.info("Json Rpc streaming decoder set to : {}", jsonRpcStreamingDecoder);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the value of json rpc encoder
+     * direct buffers flag to the value configured for config option (json-rpc-encoder-direct-buffers) in the
+     * configuration file. When enabled, outgoing messages are serialized into direct buffers, otherwise into
+     * heap buffers. This option is only configured at the boot time of the controller. Any change at the run
+     * time will have no impact.
+     * @param directBuffers true to serialize into direct buffers (default : true)
+     */
+    public void setJsonRpcEncoderDirectBuffers(boolean directBuffers) {
+        jsonRpcEncoderDirectBuffers = directBuffers;
+        LOG.info("Json Rpc encoder direct buffers set to : {}", jsonRpcEncoderDirectBuffers);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the number of threads processing
+     * the notifications (monitor updates, lock notifications) received from the switches, to the value
+     * configured for config option (ovsdb-notification-threads) in the configuration file. With 0 threads,
+     * notifications are processed on the event loop of their connection. Otherwise they are processed by
+     * a serial executor per connection, running on a pool of that many threads, so that a large update does
+     * not hold up the other connections of the event loop. This option is only configured at the boot time
+     * of the controller. Any change at the run time will have no impact.
+     * @param threads number of notification threads (default : 0)
+     */
+    public void setOvsdbNotificationThreads(int threads) {
+        if (threads > 0 && notificationExecutor == null) {
+            notificationExecutor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                    .setNameFormat("OVSDB-Lib-Notification-%d").setDaemon(true).build());
+        }
+        LOG.info("OVSDB notification threads set to : {}", threads);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the number of notifications pending
+     * on a connection past which reading from it is suspended, to the value configured for config option
+     * (ovsdb-notification-queue-depth) in the configuration file. It only applies when notifications are not
+     * processed on the event loop. This option is only configured at the boot time of the controller. Any
+     * change at the run time will have no impact.
+     * @param queueDepth pending notifications per connection (default : 1000)
+     */
+    public void setOvsdbNotificationQueueDepth(int queueDepth) {
+        notificationQueueDepth = queueDepth;
+        LOG.info("OVSDB notification queue depth set to : {}", notificationQueueDepth);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the write buffer low water mark of
+     * the connections to the value configured for config option (ovsdb-write-buffer-low-watermark) in the
+     * configuration file. Requests held back by a connection are written once its outbound buffer drains below
+     * this many bytes. This option is only configured at the boot time of the controller. Any change at the
+     * run time will have no impact.
+     * @param lowWatermark low water mark in bytes (default : 32768)
+     */
+    public void setOvsdbWriteBufferLowWatermark(int lowWatermark) {
+        writeBufferLowWatermark = lowWatermark;
+        LOG.info("OVSDB write buffer low watermark set to : {}", writeBufferLowWatermark);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the write buffer high water mark of
+     * the connections to the value configured for config option (ovsdb-write-buffer-high-watermark) in the
+     * configuration file. Once the outbound buffer of a connection is above this many bytes, new requests are
+     * held back, see {@link #setOvsdbPendingWriteLimit(int)}. This option is only configured at the boot time
+     * of the controller. Any change at the run time will have no impact.
+     * @param highWatermark high water mark in bytes (default : 65536)
+     */
+    public void setOvsdbWriteBufferHighWatermark(int highWatermark) {
+        writeBufferHighWatermark = highWatermark;
+        LOG.info("OVSDB write buffer high watermark set to : {}", writeBufferHighWatermark);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the number of requests a connection
+     * holds back, while its outbound buffer is above the write buffer high water mark, to the value configured
+     * for config option (ovsdb-pending-write-limit) in the configuration file. Past this limit, requests fail
+     * with a {@link org.opendaylight.ovsdb.lib.error.ConnectionBusyException}; with 0 they fail as soon as the
+     * high water mark is crossed. It applies to the connections established after the change.
+     * @param limit number of held back requests (default : 1000)
+     */
+    public void setOvsdbPendingWriteLimit(int limit) {
+        pendingWriteLimit = limit;
+        LOG.info("OVSDB pending write limit set to : {}", pendingWriteLimit);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the number of flushes consolidated
+     * into a single one to the value configured for config option (ovsdb-flush-consolidation-limit) in the
+     * configuration file. Requests written to a connection in a burst are flushed together, once per event
+     * loop cycle, and at least every that many requests. 0 flushes every request on its own. This option is
+     * only configured at the boot time of the controller. Any change at the run time will have no impact.
+     * @param limit number of consolidated flushes (default : 256)
+     */
+    public void setOvsdbFlushConsolidationLimit(int limit) {
+        flushConsolidationLimit = limit;
+        LOG.info("OVSDB flush consolidation limit set to : {}", flushConsolidationLimit);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the number of event loop threads
+     * shared by all the active and passive connections to the value configured for config option
+     * (ovsdb-event-loop-threads) in the configuration file. 0 uses twice the number of processors. This option
+     * is only configured at the boot time of the controller. Any change at the run time will have no impact.
+     * @param threads number of event loop threads (default : 0)
+     */
+    public void setOvsdbEventLoopThreads(int threads) {
+        eventLoopThreads = threads;
+        LOG.info("OVSDB event loop threads set to : {}", eventLoopThreads);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the epoll transport flag to the value
+     * configured for config option (ovsdb-use-epoll) in the configuration file. When enabled, connections use
+     * the native Linux epoll transport, falling back to nio where it is not available. This option is only
+     * configured at the boot time of the controller. Any change at the run time will have no impact.
+     * @param epoll true to use the epoll transport (default : false)
+     */
+    public void setOvsdbUseEpoll(boolean epoll) {
+        useEpoll = epoll;
+        LOG.info("OVSDB epoll transport set to : {}", useEpoll);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the number of TLS sessions cached for
+     * resumption to the value configured for config option (ovsdb-ssl-session-cache-size) in the configuration
+     * file. It should cover the switches connected, so that they all resume their sessions when reconnecting
+     * after a failover. 0 keeps the default of the SSL context. It applies to the SSL contexts used after the
+     * change.
+     * @param cacheSize number of cached sessions (default : 0)
+     */
+    public void setOvsdbSslSessionCacheSize(int cacheSize) {
+        sslSessionCacheSize = cacheSize;
+        LOG.info("OVSDB ssl session cache size set to : {}", sslSessionCacheSize);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the time a TLS session can be resumed
+     * to the value configured for config option (ovsdb-ssl-session-timeout) in the configuration file. 0 keeps
+     * the default of the SSL context. It applies to the SSL contexts used after the change.
+     * @param timeout session lifetime in seconds (default : 0)
+     */
+    public void setOvsdbSslSessionTimeout(int timeout) {
+        sslSessionTimeout = timeout;
+        LOG.info("OVSDB ssl session timeout set to : {}", sslSessionTimeout);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the average number of passive
+     * connections admitted per second to the value configured for config option (ovsdb-admission-rate) in the
+     * configuration file. Connections over the rate wait for their turn. 0 admits them all right away.
+     * @param rate connections admitted per second (default : 0)
+     */
+    public void setOvsdbAdmissionRate(int rate) {
+        admissionRate = rate;
+        configureAdmission();
+        LOG.info("OVSDB admission rate set to : {}", admissionRate);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the number of passive connections
+     * admitted at once after a quiet period to the value configured for config option (ovsdb-admission-burst)
+     * in the configuration file. 0 uses the admission rate.
+     * @param burst connections admitted at once (default : 0)
+     */
+    public void setOvsdbAdmissionBurst(int burst) {
+        admissionBurst = burst;
+        configureAdmission();
+        LOG.info("OVSDB admission burst set to : {}", admissionBurst);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the number of admitted passive
+     * connections that can be bootstrapping at the same time to the value configured for config option
+     * (ovsdb-admission-max-bootstrapping) in the configuration file. A connection is bootstrapping from its
+     * admission until its user reports that it is done with its initial requests, see
+     * {@link OvsdbClient#bootstrapComplete()}. 0 does not limit them.
+     * @param maxBootstrapping connections bootstrapping at the same time (default : 0)
+     */
+    public void setOvsdbAdmissionMaxBootstrapping(int maxBootstrapping) {
+        admissionMaxBootstrapping = maxBootstrapping;
+        configureAdmission();
+        LOG.info("OVSDB admission max bootstrapping set to : {}", admissionMaxBootstrapping);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the time (in seconds) after which
+     * an admitted connection no longer counts as bootstrapping, even if its user did not report it, to the value
+     * configured for config option (ovsdb-admission-bootstrap-timeout) in the configuration file.
+     * @param timeout bootstrap timeout (default : 60)
+     */
+    public void setOvsdbAdmissionBootstrapTimeout(int timeout) {
+        admissionBootstrapTimeout = timeout;
+        configureAdmission();
+        LOG.info("OVSDB admission bootstrap timeout set to : {}", admissionBootstrapTimeout);
+    }
+
+    private static void configureAdmission() {
+        ADMISSION.configure(admissionRate, admissionBurst > 0 ? admissionBurst : admissionRate,
+                admissionMaxBootstrapping, TimeUnit.SECONDS.toMillis(admissionBootstrapTimeout));
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the bound (in milliseconds) of the
+     * delay before reconnecting to a node after its first failed attempt to the value configured for config option
+     * (ovsdb-reconnect-backoff-base) in the configuration file. The bound doubles with every failed attempt, see
+     * {@link ReconnectScheduler}.
+     * @param base delay bound after the first failed attempt (default : 2000)
+     */
+    public void setOvsdbReconnectBackoffBase(int base) {
+        reconnectBackoffBase = base;
+        configureReconnects();
+        LOG.info("OVSDB reconnect backoff base set to : {}", reconnectBackoffBase);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the maximum bound (in milliseconds) of
+     * the delay before reconnecting to a node to the value configured for config option
+     * (ovsdb-reconnect-backoff-max) in the configuration file.
+     * @param max delay bound after any number of failed attempts (default : 120000)
+     */
+    public void setOvsdbReconnectBackoffMax(int max) {
+        reconnectBackoffMax = max;
+        configureReconnects();
+        LOG.info("OVSDB reconnect backoff max set to : {}", reconnectBackoffMax);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the number of reconnect attempts that
+     * can be in flight at the same time, across all the users of the library, to the value configured for config
+     * option (ovsdb-reconnect-max-in-flight) in the configuration file. 0 does not limit them.
+     * @param maxInFlight reconnect attempts in flight at the same time (default : 16)
+     */
+    public void setOvsdbReconnectMaxInFlight(int maxInFlight) {
+        reconnectMaxInFlight = maxInFlight;
+        configureReconnects();
+        LOG.info("OVSDB reconnect max in flight set to : {}", reconnectMaxInFlight);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the time (in seconds) without data
+     * from the peer after which the echo service of a connection sends a probe to the value configured for config
+     * option (ovsdb-echo-interval) in the configuration file. It also bounds the timeout of the probes, see
+     * {@link OvsdbClient#startEchoService}. It applies to the echo services started after the change.
+     * @param interval echo probe interval (default : 30)
+     */
+    public void setOvsdbEchoInterval(int interval) {
+        echoInterval = interval;
+        LOG.info("OVSDB echo interval set to : {}", echoInterval);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the number of strings pooled while
+     * decoding the rows, so that the values repeated across rows share one instance, to the value configured for
+     * config option (ovsdb-intern-pool-size) in the configuration file. 0 disables pooling. It applies to the
+     * schemas fetched after the change, see {@link StringInterner}.
+     * @param poolSize strings pooled at most (default : 65536)
+     */
+    public void setOvsdbInternPoolSize(int poolSize) {
+        internPoolSize = poolSize;
+        configureInterning();
+        LOG.info("OVSDB intern pool size set to : {}", internPoolSize);
+    }
+
+    /**
+     * Blueprint property setter method. Blueprint call this method and set the columns whose string values are
+     * pooled while decoding the rows, on top of the map keys and the enumerated values, to the value configured for
+     * config option (ovsdb-intern-columns) in the configuration file. The columns are separated by commas, each
+     * given by its name or as table.column. It applies to the schemas fetched after the change.
+     * @param columns pooled columns (default : type,external_ids)
+     */
+    public void setOvsdbInternColumns(String columns) {
+        internColumns = columns;
+        configureInterning();
+        LOG.info("OVSDB intern columns set to : {}", internColumns);
+    }
+
+    private static void configureInterning() {
+        StringInterner.configure(internPoolSize,
+                Splitter.on(',').trimResults().omitEmptyStrings().splitToList(internColumns));
+    }
+
+    private static void configureReconnects() {
+        ReconnectScheduler.getInstance().configure(reconnectBackoffBase, reconnectBackoffMax, reconnectMaxInFlight);
+    }
+
+    /**
+     * Returns the number of passive connections waiting to be admitted.
+     */
+    public int getAdmissionQueueDepth() {
+        return ADMISSION.getQueueDepth();
+    }
+
+    /**
+     * Returns the number of admitted passive connections still bootstrapping.
+     */
+    public int getBootstrappingConnections() {
+        return ADMISSION.getBootstrapping();
+    }
+
     public void setOvsdbListenerPort(int portNumber) {
         LOG.info("OVSDB port for listening connection is set to : {}", portNumber);
         listenerPort = portNumber;
@@ -594,6 +1135,20 @@ public class OvsdbConnectionService implements AutoCloseable, OvsdbConnection {
             for (Map.Entry<String, Object> paramEntry : configParameters.entrySet()) {
                 if (paramEntry.getKey().equalsIgnoreCase(OVSDB_RPC_TASK_TIMEOUT_PARAM)) {
                     setOvsdbRpcTaskTimeout(Integer.parseInt((String)paramEntry.getValue()));
+                } else if (paramEntry.getKey().equalsIgnoreCase(OVSDB_RPC_TRANSACT_TIMEOUT_PARAM)) {
+                    setOvsdbRpcTransactTimeout(Integer.parseInt((String)paramEntry.getValue()));
+                } else if (paramEntry.getKey().equalsIgnoreCase(OVSDB_RPC_MONITOR_TIMEOUT_PARAM)) {
+                    setOvsdbRpcMonitorTimeout(Integer.parseInt((String)paramEntry.getValue()));
+                } else if (paramEntry.getKey().equalsIgnoreCase(OVSDB_RPC_GET_SCHEMA_TIMEOUT_PARAM)) {
+                    setOvsdbRpcGetSchemaTimeout(Integer.parseInt((String)paramEntry.getValue()));
+                } else if (paramEntry.getKey().equalsIgnoreCase(OVSDB_RPC_ECHO_TIMEOUT_PARAM)) {
+                    setOvsdbRpcEchoTimeout(Integer.parseInt((String)paramEntry.getValue()));
+                } else if (paramEntry.getKey().equalsIgnoreCase(OVSDB_PENDING_WRITE_LIMIT_PARAM)) {
+                    setOvsdbPendingWriteLimit(Integer.parseInt((String)paramEntry.getValue()));
+                } else if (paramEntry.getKey().equalsIgnoreCase(OVSDB_INTERN_POOL_SIZE_PARAM)) {
+                    setOvsdbInternPoolSize(Integer.parseInt((String)paramEntry.getValue()));
+                } else if (paramEntry.getKey().equalsIgnoreCase(OVSDB_INTERN_COLUMNS_PARAM)) {
+                    setOvsdbInternColumns((String)paramEntry.getValue());
                 } else if (paramEntry.getKey().equalsIgnoreCase(USE_SSL)) {
                     useSSL = Boolean.parseBoolean(paramEntry.getValue().toString());
                 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Paces the reconnect attempts to the nodes the controller connects to, shared by all the users of the library so
+ * that their retries add up to a bounded load.
+ *
+ * <p>The delay before the next attempt to a node grows exponentially with the failed attempts to it, and is drawn
+ * uniformly between 0 and that bound ("full jitter"), so that nodes lost at the same time do not all retry at the
+ * same time. A successful connection resets the node's backoff. On top of that, at most a given number of attempts
+ * are in flight at once, the others are deferred by a short jittered delay.
+ */
+public final class ReconnectScheduler {
+
+    private static final ReconnectScheduler INSTANCE = new ReconnectScheduler();
+    private static final int MAX_DOUBLINGS = 32;
+
+    private final Map<Object, Integer> failedAttempts = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile long baseDelayMillis = 2000;
+    private volatile long maxDelayMillis = 120000;
+    private volatile int maxInFlight = 16;
+
+    ReconnectScheduler() {
+    }
+
+    /**
+     * Returns the scheduler shared by the users of the library.
+     */
+    public static ReconnectScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Configures the backoff.
+     *
+     * @param newBaseDelayMillis bound of the delay after the first failed attempt
+     * @param newMaxDelayMillis bound of the delay after any number of failed attempts
+     * @param newMaxInFlight attempts in flight at most, 0 for no limit
+     */
+    void configure(long newBaseDelayMillis, long newMaxDelayMillis, int newMaxInFlight) {
+        this.baseDelayMillis = Math.max(1, newBaseDelayMillis);
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, newMaxDelayMillis);
+        this.maxInFlight = newMaxInFlight;
+    }
+
+    /**
+     * Returns the delay before the first attempt to a node, drawn like the one after a single failed attempt but
+     * without recording any.
+     *
+     * @return the delay in milliseconds
+     */
+    public long firstDelayMillis() {
+        return ThreadLocalRandom.current().nextLong(baseDelayMillis + 1);
+    }
+
+    /**
+     * Records a failed attempt to the node and returns the delay before the next one.
+     *
+     * @param node key of the node, for instance its instance identifier
+     * @return the delay in milliseconds
+     */
+    public long nextDelayMillis(Object node) {
+        int failed = failedAttempts.merge(node, 1, (previous, one) -> Math.min(previous + 1, MAX_DOUBLINGS));
+        long base = baseDelayMillis;
+        // the base doubles with every failed attempt, until the cap or the shift would overflow
+        long bound = failed - 1 < Long.numberOfLeadingZeros(base) - 1
+                ? Math.min(maxDelayMillis, base << (failed - 1)) : maxDelayMillis;
+        return ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    /**
+     * Returns the delay before retrying an attempt that could not start because too many were in flight.
+     *
+     * @return the delay in milliseconds
+     */
+    public long deferralDelayMillis() {
+        return 1 + ThreadLocalRandom.current().nextLong(baseDelayMillis);
+    }
+
+    /**
+     * Forgets the failed attempts to the node, after it got connected or its reconnection was abandoned.
+     *
+     * @param node key of the node
+     */
+    public void reset(Object node) {
+        failedAttempts.remove(node);
+    }
+
+    /**
+     * Starts an attempt, if fewer than the maximum are in flight. A started attempt must be ended with
+     * {@link #endAttempt()}.
+     *
+     * @return true if the attempt can proceed
+     */
+    public boolean tryStartAttempt() {
+        while (true) {
+            int current = inFlight.get();
+            if (maxInFlight > 0 && current >= maxInFlight) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Ends an attempt started with {@link #tryStartAttempt()}.
+     */
+    public void endAttempt() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Returns the number of attempts in flight.
+     */
+    public int getAttemptsInFlight() {
+        return inFlight.get();
+    }
+}
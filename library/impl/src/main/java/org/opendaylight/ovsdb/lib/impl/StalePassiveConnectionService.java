@@ -10,6 +10,7 @@ package org.opendaylight.ovsdb.lib.impl;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.SettableFuture;
+import java.net.InetAddress;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,7 +36,8 @@ import org.slf4j.LoggerFactory;
 public class StalePassiveConnectionService implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(StalePassiveConnectionService.class);
 
-    private static Map<OvsdbClient, Map<OvsdbClient, SettableFuture>> pendingConnectionClients =
+    // pending new clients by remote address, each with the futures of the clients from the same node it waits for
+    private static Map<InetAddress, Map<OvsdbClient, Map<OvsdbClient, SettableFuture>>> pendingConnectionClients =
             new ConcurrentHashMap<>();
 
     private final ScheduledExecutorService executorService;
@@ -54,8 +56,14 @@ public class StalePassiveConnectionService implements AutoCloseable {
      */
     public void handleNewPassiveConnection(final OvsdbClient newOvsdbClient,
                                            final List<OvsdbClient> clientsFromSameNode) {
+        final InetAddress remoteAddress = newOvsdbClient.getConnectionInfo().getRemoteAddress();
         final Map<OvsdbClient, SettableFuture> clientFutureMap = new ConcurrentHashMap<>();
-        pendingConnectionClients.put(newOvsdbClient, clientFutureMap);
+        pendingConnectionClients.compute(remoteAddress, (key, pendingClients) -> {
+            Map<OvsdbClient, Map<OvsdbClient, SettableFuture>> clients =
+                    pendingClients != null ? pendingClients : new ConcurrentHashMap<>();
+            clients.put(newOvsdbClient, clientFutureMap);
+            return clients;
+        });
 
         // scheduled task for ping response timeout. Connections that don't response to the
         // ping or haven't disconnected after the timeout will be closed
@@ -81,10 +89,10 @@ public class StalePassiveConnectionService implements AutoCloseable {
         for (final OvsdbClient client : clientsFromSameNode) {
             SettableFuture clientFuture = SettableFuture.create();
             clientFutureMap.put(client, clientFuture);
-            Futures.addCallback(clientFuture,
-                    createStaleConnectionFutureCallback(client, newOvsdbClient, clientFutureMap, echoTimeoutFuture));
-            Futures.addCallback(client.echo(),
-                    createStaleConnectionFutureCallback(client, newOvsdbClient, clientFutureMap, echoTimeoutFuture));
+            Futures.addCallback(clientFuture, createStaleConnectionFutureCallback(client, newOvsdbClient,
+                    remoteAddress, clientFutureMap, echoTimeoutFuture));
+            Futures.addCallback(client.echo(), createStaleConnectionFutureCallback(client, newOvsdbClient,
+                    remoteAddress, clientFutureMap, echoTimeoutFuture));
         }
     }
 
@@ -93,14 +101,17 @@ public class StalePassiveConnectionService implements AutoCloseable {
      * @param disconnectedClient the client just disconnected
      */
     public void clientDisconnected(OvsdbClient disconnectedClient) {
-        for (OvsdbClient pendingClient : pendingConnectionClients.keySet()) {
-            // set the future result for pending connections that wait for this client to be disconnected
-            if (pendingClient.getConnectionInfo().getRemoteAddress()
-                    .equals(disconnectedClient.getConnectionInfo().getRemoteAddress())) {
-                Map<OvsdbClient, SettableFuture> clientFutureMap = pendingConnectionClients.get(pendingClient);
-                if (clientFutureMap.containsKey(disconnectedClient)) {
-                    clientFutureMap.get(disconnectedClient).set(null);
-                }
+        Map<OvsdbClient, Map<OvsdbClient, SettableFuture>> pendingClients =
+                pendingConnectionClients.get(disconnectedClient.getConnectionInfo().getRemoteAddress());
+        if (pendingClients == null) {
+            return;
+        }
+        // set the future result for pending connections from the same node that wait for this client to be
+        // disconnected
+        for (Map<OvsdbClient, SettableFuture> clientFutureMap : pendingClients.values()) {
+            SettableFuture clientFuture = clientFutureMap.get(disconnectedClient);
+            if (clientFuture != null) {
+                clientFuture.set(null);
             }
         }
     }
@@ -110,7 +121,7 @@ public class StalePassiveConnectionService implements AutoCloseable {
     }
 
     private FutureCallback<List<String>> createStaleConnectionFutureCallback(
-            final OvsdbClient cbForClient, final OvsdbClient newClient,
+            final OvsdbClient cbForClient, final OvsdbClient newClient, final InetAddress remoteAddress,
             final Map<OvsdbClient, SettableFuture> clientFutureMap, final ScheduledFuture<?> echoTimeoutFuture) {
         return new FutureCallback<List<String>>() {
             @Override
@@ -123,7 +134,12 @@ public class StalePassiveConnectionService implements AutoCloseable {
                         echoTimeoutFuture.cancel(true);
                     }
                     OvsdbConnectionService.notifyListenerForPassiveConnection(newClient);
-                    pendingConnectionClients.remove(newClient);
+                    // drop the address entry along with its last pending client, atomically with respect to a
+                    // new client from the same node being added
+                    pendingConnectionClients.computeIfPresent(remoteAddress, (key, pendingClients) -> {
+                        pendingClients.remove(newClient);
+                        return pendingClients.isEmpty() ? null : pendingClients;
+                    });
                 }
             }
 
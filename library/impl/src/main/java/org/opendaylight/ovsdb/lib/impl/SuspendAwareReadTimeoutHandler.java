@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.impl;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read timeout which does not expire while reading from the channel is suspended, see
+ * {@link org.opendaylight.ovsdb.lib.jsonrpc.ChannelReadGate}: nothing can be read then, however alive the peer.
+ * Once reading resumes, the peer is given a whole timeout again to send something.
+ */
+final class SuspendAwareReadTimeoutHandler extends ReadTimeoutHandler {
+
+    // only touched on the event loop
+    private boolean expiredWhileSuspended;
+
+    SuspendAwareReadTimeoutHandler(long timeout, TimeUnit unit) {
+        super(timeout, unit);
+    }
+
+    @Override
+    protected void readTimedOut(ChannelHandlerContext ctx) throws Exception {
+        if (!ctx.channel().config().isAutoRead()) {
+            expiredWhileSuspended = true;
+            return;
+        }
+        if (expiredWhileSuspended) {
+            // the first expiry after resuming, the next one is a whole timeout away
+            expiredWhileSuspended = false;
+            return;
+        }
+        super.readTimedOut(ctx);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import io.netty.channel.Channel;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import java.util.EnumSet;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Controls reading from a channel on behalf of several independent parties. Reading is suspended, by turning
+ * off the channel's auto-read, as long as at least one of them asks for it, so that the remote end is throttled
+ * by TCP flow control.
+ *
+ * <p>The state is only touched on the channel's event loop; requests made from other threads are handed over
+ * to it, in order.
+ */
+public final class ChannelReadGate {
+
+    /**
+     * The parties that can suspend reading.
+     */
+    public enum Reason {
+        /**
+         * Too many notifications pending in the connection's notification executor.
+         */
+        NOTIFICATION_BACKLOG,
+        /**
+         * The user of the connection cannot keep up with the updates read from it.
+         */
+        CLIENT_BACKLOG
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChannelReadGate.class);
+    private static final AttributeKey<ChannelReadGate> GATE = AttributeKey.valueOf(ChannelReadGate.class, "GATE");
+
+    private final Channel channel;
+    private final Set<Reason> reasons = EnumSet.noneOf(Reason.class);
+
+    private ChannelReadGate(Channel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Returns the read gate of the channel.
+     */
+    public static ChannelReadGate of(Channel channel) {
+        Attribute<ChannelReadGate> attribute = channel.attr(GATE);
+        ChannelReadGate gate = attribute.get();
+        if (gate == null) {
+            gate = new ChannelReadGate(channel);
+            ChannelReadGate existing = attribute.setIfAbsent(gate);
+            if (existing != null) {
+                gate = existing;
+            }
+        }
+        return gate;
+    }
+
+    public void suspend(Reason reason) {
+        onEventLoop(() -> {
+            if (reasons.add(reason) && reasons.size() == 1) {
+                LOG.debug("Suspending reading from {} ({})", channel, reason);
+                channel.config().setAutoRead(false);
+            }
+        });
+    }
+
+    public void resume(Reason reason) {
+        onEventLoop(() -> {
+            if (reasons.remove(reason) && reasons.isEmpty()) {
+                LOG.debug("Resuming reading from {} ({})", channel, reason);
+                channel.config().setAutoRead(true);
+            }
+        });
+    }
+
+    private void onEventLoop(Runnable task) {
+        if (channel.eventLoop().inEventLoop()) {
+            task.run();
+        } else {
+            channel.eventLoop().execute(task);
+        }
+    }
+}
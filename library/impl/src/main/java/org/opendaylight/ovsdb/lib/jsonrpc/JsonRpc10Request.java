@@ -14,7 +14,7 @@ import java.util.List;
 
 public class JsonRpc10Request {
 
-    String id;
+    Object id;
     String method;
     List<Object> params = new ArrayList<>();
 
@@ -22,7 +22,14 @@ public class JsonRpc10Request {
         setId(id);
     }
 
-    public String getId() {
+    /**
+     * Creates a request with a numeric id, which is written as a JSON number.
+     */
+    public JsonRpc10Request(long id) {
+        this.id = id;
+    }
+
+    public Object getId() {
         return id;
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2015 EBay Software Foundation and others. All rights reserved.
+ * Copyright © 2013, 2017 EBay Software Foundation and others. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v1.0 which accompanies this distribution,
@@ -8,20 +8,46 @@
 
 package org.opendaylight.ovsdb.lib.jsonrpc;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.MessageToMessageEncoder;
-import java.util.List;
+import io.netty.handler.codec.MessageToByteEncoder;
+import java.io.OutputStream;
 
 /**
- * Created with IntelliJ IDEA.
- * User: araveendrann
- * Date: 10/6/13
- * Time: 11:19 PM
- * To change this template use File | Settings | File Templates.
+ * JSON RPC 1.0 encoder serializing outgoing messages straight into the {@link ByteBuf} that is written
+ * to the channel.
+ *
+ * <p>Requests and responses ({@link JsonRpc10Request}, {@link JsonRpc10Response}, or any other object the
+ * {@link ObjectMapper} knows how to serialize) are written by a streaming {@link JsonGenerator}, so rows,
+ * sets and maps go through the same serializers as before, without an intermediate {@link String}
+ * and its UTF-8 copy. Buffers come from the channel allocator, direct ones if requested. Character
+ * sequences are still accepted and UTF-8 encoded as is, while ByteBufs pass through untouched.
  */
-public class JsonRpcEncoder extends MessageToMessageEncoder<Object> {
+public class JsonRpcEncoder extends MessageToByteEncoder<Object> {
+
+    private final ObjectWriter writer;
+
+    public JsonRpcEncoder(ObjectMapper objectMapper, boolean preferDirect) {
+        super(preferDirect);
+        this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
     @Override
-    protected void encode(ChannelHandlerContext ctx, Object msg, List<Object> out) throws Exception {
+    public boolean acceptOutboundMessage(Object msg) throws Exception {
+        return !(msg instanceof ByteBuf);
+    }
 
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
+        if (msg instanceof CharSequence) {
+            ByteBufUtil.writeUtf8(out, (CharSequence) msg);
+        } else {
+            writer.writeValue((OutputStream) new ByteBufOutputStream(out), msg);
+        }
     }
 }
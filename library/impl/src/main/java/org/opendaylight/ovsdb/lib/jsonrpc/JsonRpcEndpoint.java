@@ -8,62 +8,168 @@
 
 package org.opendaylight.ovsdb.lib.jsonrpc;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.POJONode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
-import com.google.common.reflect.Invokable;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.google.common.reflect.Reflection;
 import com.google.common.reflect.TypeToken;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.channel.Channel;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
 
-import java.lang.reflect.InvocationTargetException;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.opendaylight.ovsdb.lib.error.ConnectionBusyException;
 import org.opendaylight.ovsdb.lib.error.UnexpectedResultException;
 import org.opendaylight.ovsdb.lib.error.UnsupportedArgumentException;
+import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcStreamingDecoder.StreamedResult;
 import org.opendaylight.ovsdb.lib.message.OvsdbRPC;
+import org.opendaylight.ovsdb.lib.message.UpdateNotification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class JsonRpcEndpoint {
 
     private static final Logger LOG = LoggerFactory.getLogger(JsonRpcEndpoint.class);
-    private static final int REAPER_THREADS = 3;
     private static final ThreadFactory FUTURE_REAPER_THREAD_FACTORY = new ThreadFactoryBuilder()
             .setNameFormat("OVSDB-Lib-Future-Reaper-%d")
             .setDaemon(true).build();
-    private static final ScheduledExecutorService FUTURE_REAPER_SERVICE
-            = Executors.newScheduledThreadPool(REAPER_THREADS, FUTURE_REAPER_THREAD_FACTORY);
+    /*
+     * A single hashed wheel serves the calls of all the connections: adding and cancelling a timeout are
+     * constant time, and the timeouts of completed calls are simply dropped when their bucket comes up.
+     */
+    private static final HashedWheelTimer FUTURE_REAPER_TIMER = new HashedWheelTimer(
+            FUTURE_REAPER_THREAD_FACTORY, 10, TimeUnit.MILLISECONDS, 1024);
 
     private static int reaperInterval = 1000;
+    // per method overrides of the reaper interval, in milliseconds
+    private static final Map<String, Integer> METHOD_TIMEOUTS = new ConcurrentHashMap<>();
+
+    // dispatch tables, resolved once per rpc interface and per callback class
+    private static final ClassValue<Map<Method, RpcMethod>> RPC_METHODS = new ClassValue<Map<Method, RpcMethod>>() {
+        @Override
+        protected Map<Method, RpcMethod> computeValue(Class<?> type) {
+            Map<Method, RpcMethod> methods = new HashMap<>();
+            for (Method method : type.getMethods()) {
+                methods.put(method, new RpcMethod(method));
+            }
+            return methods;
+        }
+    };
+    private static final ClassValue<Map<String, CallbackMethod>> CALLBACK_METHODS =
+            new ClassValue<Map<String, CallbackMethod>>() {
+                @Override
+                protected Map<String, CallbackMethod> computeValue(Class<?> type) {
+                    Map<String, CallbackMethod> methods = new HashMap<>();
+                    for (Method method : type.getDeclaredMethods()) {
+                        if (method.getParameterCount() == 2 && !method.isSynthetic()) {
+                            methods.putIfAbsent(method.getName(), new CallbackMethod(method));
+                        }
+                    }
+                    return methods;
+                }
+            };
+
+    // suffix of the streaming variants of the rpc methods, see JsonRpcResultReader
+    private static final String STREAMING_SUFFIX = "Streaming";
+
+    /**
+     * An rpc interface method, with the type its result is bound to.
+     */
+    private static final class RpcMethod {
+        final Method method;
+        // name of the rpc on the wire
+        final String name;
+        final boolean registerCallback;
+        // the result is read by the JsonRpcResultReader argument rather than bound
+        final boolean streaming;
+        // the last parameter, a long, is the deadline of the call in milliseconds rather than a param
+        final boolean timed;
+        // null if the method does not return a ListenableFuture
+        final JavaType resultType;
+
+        RpcMethod(Method method) {
+            this.method = method;
+            String methodName = method.getName();
+            this.streaming = methodName.endsWith(STREAMING_SUFFIX) && methodName.length() > STREAMING_SUFFIX.length();
+            this.name = streaming ? methodName.substring(0, methodName.length() - STREAMING_SUFFIX.length())
+                    : methodName;
+            this.registerCallback = OvsdbRPC.REGISTER_CALLBACK_METHOD.equals(name);
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            this.timed = parameterTypes.length != 0 && parameterTypes[parameterTypes.length - 1] == long.class;
+            if (ListenableFuture.class == method.getReturnType()) {
+                TypeToken<?> retType = TypeToken.of(method.getGenericReturnType())
+                        .resolveType(ListenableFuture.class.getTypeParameters()[0]);
+                this.resultType = TypeFactory.defaultInstance().constructType(retType.getType());
+            } else {
+                this.resultType = null;
+            }
+        }
+    }
+
+    /**
+     * A callback method, invoked with the connection context and the converted request params.
+     */
+    private static final class CallbackMethod {
+        final String name;
+        final Class<?> paramType;
+        final MethodHandle handle;
+
+        CallbackMethod(Method method) {
+            this.name = method.getName();
+            this.paramType = method.getParameterTypes()[1];
+            // callbacks are usually anonymous classes, which are not accessible
+            method.setAccessible(true);
+            try {
+                this.handle = MethodHandles.lookup().unreflect(method)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Failed to access callback " + method, e);
+            }
+        }
+    }
 
     public class CallContext {
-        Method method;
+        final RpcMethod rpcMethod;
+        final long requestId;
         JsonRpc10Request request;
         SettableFuture<Object> future;
+        Timeout timeout;
+        // reads the result of a streaming call
+        JsonRpcResultReader resultReader;
 
-        public CallContext(JsonRpc10Request request, Method method, SettableFuture<Object> future) {
-            this.method = method;
+        CallContext(long requestId, JsonRpc10Request request, RpcMethod rpcMethod, SettableFuture<Object> future) {
+            this.requestId = requestId;
+            this.rpcMethod = rpcMethod;
             this.request = request;
             this.future = future;
         }
 
         public Method getMethod() {
-            return method;
+            return rpcMethod.method;
         }
 
         public JsonRpc10Request getRequest() {
@@ -73,22 +179,161 @@ public class JsonRpcEndpoint {
         public SettableFuture<Object> getFuture() {
             return future;
         }
+
+        /**
+         * Removes this call from the in-flight table and cancels its pending timeout.
+         *
+         * @return true if the call was still in flight
+         */
+        boolean complete() {
+            if (methodContext.remove(requestId) == null) {
+                return false;
+            }
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            return true;
+        }
     }
 
     ObjectMapper objectMapper;
     Channel nettyChannel;
-    Map<String, CallContext> methodContext = new ConcurrentHashMap<>();
+    // in-flight calls keyed by the numeric id of their request, ids are handed out in sequence per channel
+    LongKeyedTable<CallContext> methodContext = new LongKeyedTable<>();
+    final AtomicLong nextRequestId = new AtomicLong();
     Map<Object, OvsdbRPC.Callback> requestCallbacks = new HashMap<>();
 
+    // when set, callbacks run there instead of on the event loop, reading is suspended past the queue depth
+    private SerialExecutor notificationExecutor;
+    private int notificationQueueDepth;
+    private volatile boolean readSuspended;
+
+    // requests waiting for the channel to become writable, in order, guarded by itself
+    private final Deque<CallContext> pendingWrites = new ArrayDeque<>();
+    // negative when requests are written regardless of the writability of the channel
+    private int pendingWriteLimit = -1;
+
     public JsonRpcEndpoint(ObjectMapper objectMapper, Channel channel) {
         this.objectMapper = objectMapper;
         this.nettyChannel = channel;
     }
 
+    /**
+     * Offloads the processing of the requests received from the switch, monitor updates in particular, from the
+     * event loop. Requests are handed over, in order, to a serial executor running on the given executor. Once
+     * queueDepth requests are pending, reading from the channel is suspended until half of them are processed.
+     * Messages already decoded from the last read are still queued, so the bound is not strict.
+     *
+     * @param executor executor shared by the connections
+     * @param queueDepth number of pending requests at which reading is suspended
+     */
+    public void setNotificationExecutor(Executor executor, int queueDepth) {
+        this.notificationQueueDepth = queueDepth;
+        this.notificationExecutor = new SerialExecutor(executor, pending -> {
+            if (readSuspended && pending <= notificationQueueDepth / 2) {
+                nettyChannel.eventLoop().execute(this::checkNotificationBacklog);
+            }
+        });
+    }
+
+    /**
+     * Suspends or resumes reading according to the notification backlog. Only invoked on the event loop.
+     */
+    private void checkNotificationBacklog() {
+        int pending = notificationExecutor.pending();
+        if (!readSuspended && pending >= notificationQueueDepth) {
+            readSuspended = true;
+            ChannelReadGate.of(nettyChannel).suspend(ChannelReadGate.Reason.NOTIFICATION_BACKLOG);
+            LOG.debug("{} notifications pending on {}", pending, nettyChannel);
+            // the executor may have drained before it could see the flag
+            pending = notificationExecutor.pending();
+        }
+        if (readSuspended && pending <= notificationQueueDepth / 2) {
+            readSuspended = false;
+            ChannelReadGate.of(nettyChannel).resume(ChannelReadGate.Reason.NOTIFICATION_BACKLOG);
+            LOG.debug("{} notifications pending on {}", pending, nettyChannel);
+        }
+    }
+
+    /**
+     * Holds back the requests while the channel is not writable, that is while its outbound buffer is above
+     * its write buffer high water mark, instead of piling them up in the buffer. Held back requests are written
+     * once the buffer drains below its low water mark. Once pendingWriteLimit requests are held back, new
+     * requests fail with a {@link ConnectionBusyException}; with a limit of 0 they fail as soon as the channel
+     * is not writable.
+     *
+     * @param pendingWriteLimit number of requests held back at most
+     */
+    public void setPendingWriteLimit(int pendingWriteLimit) {
+        this.pendingWriteLimit = pendingWriteLimit;
+    }
+
+    private void write(CallContext callContext) {
+        if (pendingWriteLimit >= 0) {
+            synchronized (pendingWrites) {
+                if (!pendingWrites.isEmpty() || !nettyChannel.isWritable()) {
+                    if (pendingWrites.size() >= pendingWriteLimit) {
+                        if (callContext.complete()) {
+                            callContext.getFuture().setException(new ConnectionBusyException(
+                                    pendingWrites.size() + " requests waiting to be written to " + nettyChannel));
+                        }
+                        return;
+                    }
+                    pendingWrites.add(callContext);
+                    if (pendingWrites.size() == 1) {
+                        // the channel may have become writable before the request was queued
+                        nettyChannel.eventLoop().execute(this::writePendingRequests);
+                    }
+                    return;
+                }
+            }
+        }
+        doWrite(callContext);
+    }
+
+    private void doWrite(CallContext callContext) {
+        SettableFuture<Object> sf = callContext.getFuture();
+        // flushes are consolidated in the pipeline, so bursts of requests go out in a single flush
+        nettyChannel.writeAndFlush(callContext.getRequest()).addListener(writeFuture -> {
+            // the request is serialized by the encoder, so serialization failures surface here
+            if (!writeFuture.isSuccess() && callContext.complete()) {
+                sf.setException(writeFuture.cause());
+            }
+        });
+    }
+
+    /**
+     * Writes the held back requests as long as the channel is writable. Invoked on the event loop, when the
+     * writability of the channel changes and when it becomes inactive, so held back requests fail then.
+     */
+    void writePendingRequests() {
+        while (true) {
+            CallContext callContext;
+            synchronized (pendingWrites) {
+                if (nettyChannel.isActive() && !nettyChannel.isWritable()) {
+                    return;
+                }
+                callContext = pendingWrites.poll();
+            }
+            if (callContext == null) {
+                return;
+            }
+            // skip the requests timed out in the meantime
+            if (!callContext.getFuture().isDone()) {
+                doWrite(callContext);
+            }
+        }
+    }
+
     public <T> T getClient(final Object context, Class<T> klazz) {
+        final Map<Method, RpcMethod> rpcMethods = RPC_METHODS.get(klazz);
 
         return Reflection.newProxy(klazz, (proxy, method, args) -> {
-            if (method.getName().equals(OvsdbRPC.REGISTER_CALLBACK_METHOD)) {
+            RpcMethod rpcMethod = rpcMethods.get(method);
+            if (rpcMethod == null) {
+                rpcMethod = new RpcMethod(method);
+            }
+            if (rpcMethod.registerCallback) {
                 if ((args == null) || args.length != 1 || !(args[0] instanceof OvsdbRPC.Callback)) {
                     return false;
                 }
@@ -96,8 +341,24 @@ public class JsonRpcEndpoint {
                 return true;
             }
 
-            JsonRpc10Request request = new JsonRpc10Request(UUID.randomUUID().toString());
-            request.setMethod(method.getName());
+            final long requestId = nextRequestId.incrementAndGet();
+            JsonRpc10Request request = new JsonRpc10Request(requestId);
+            request.setMethod(rpcMethod.name);
+
+            long timeoutMillis = getTimeout(rpcMethod.name);
+            if (rpcMethod.timed) {
+                // the deadline of this very call
+                timeoutMillis = (Long) args[args.length - 1];
+                args = Arrays.copyOf(args, args.length - 1);
+            }
+            JsonRpcResultReader resultReader = null;
+            if (rpcMethod.streaming) {
+                if (args == null || args.length == 0 || !(args[args.length - 1] instanceof JsonRpcResultReader)) {
+                    throw new UnsupportedArgumentException(rpcMethod.method + " takes a result reader");
+                }
+                resultReader = (JsonRpcResultReader) args[args.length - 1];
+                args = Arrays.copyOf(args, args.length - 1);
+            }
 
             if (args != null && args.length != 0) {
                 List<Object> params = null;
@@ -116,22 +377,21 @@ public class JsonRpcEndpoint {
                 }
             }
 
-            String requestString = objectMapper.writeValueAsString(request);
-            LOG.trace("getClient Request : {}", requestString);
+            LOG.trace("getClient Request : {}", request);
 
             SettableFuture<Object> sf = SettableFuture.create();
-            methodContext.put(request.getId(), new CallContext(request, method, sf));
-            FUTURE_REAPER_SERVICE.schedule(() -> {
-                CallContext cc = methodContext.remove(request.getId());
-                if (cc != null) {
-                    if (cc.getFuture().isDone() || cc.getFuture().isCancelled()) {
-                        return;
+            CallContext callContext = new CallContext(requestId, request, rpcMethod, sf);
+            callContext.resultReader = resultReader;
+            methodContext.put(requestId, callContext);
+            if (timeoutMillis > 0) {
+                callContext.timeout = FUTURE_REAPER_TIMER.newTimeout(timeout -> {
+                    if (methodContext.remove(requestId) != null) {
+                        sf.cancel(false);
                     }
-                    cc.getFuture().cancel(false);
-                }
-            }, reaperInterval, TimeUnit.MILLISECONDS);
+                }, timeoutMillis, TimeUnit.MILLISECONDS);
+            }
 
-            nettyChannel.writeAndFlush(requestString);
+            write(callContext);
 
             return sf;
         }
@@ -140,20 +400,29 @@ public class JsonRpcEndpoint {
 
     public void processResult(JsonNode response) throws NoSuchMethodException {
 
-        LOG.trace("Response : {}", response.toString());
-        CallContext returnCtxt = methodContext.remove(response.get("id").asText());
-        if (returnCtxt == null) {
+        LOG.trace("Response : {}", response);
+        JsonNode id = response.get("id");
+        // only numeric ids are handed out, anything else cannot belong to a pending call
+        CallContext returnCtxt = id != null && id.canConvertToLong() ? methodContext.get(id.longValue()) : null;
+        if (returnCtxt == null || !returnCtxt.complete()) {
+            return;
+        }
+        if (returnCtxt.resultReader != null) {
+            readResult(returnCtxt, response.get("result"));
             return;
         }
 
-        if (ListenableFuture.class == returnCtxt.getMethod().getReturnType()) {
-            TypeToken<?> retType = TypeToken.of(
-                    returnCtxt.getMethod().getGenericReturnType())
-                    .resolveType(ListenableFuture.class.getMethod("get").getGenericReturnType());
-            JavaType javaType =  TypeFactory.defaultInstance().constructType(retType.getType());
-
+        JavaType javaType = returnCtxt.rpcMethod.resultType;
+        if (javaType != null) {
             JsonNode result = response.get("result");
-            Object result1 = objectMapper.convertValue(result, javaType);
+            Object result1;
+            try {
+                result1 = convertResult(result, javaType);
+            } catch (IOException e) {
+                LOG.error("Unable to parse result of {}", returnCtxt.rpcMethod.name, e);
+                returnCtxt.getFuture().setException(e);
+                return;
+            }
             JsonNode error = response.get("error");
             if (error != null && !error.isNull()) {
                 LOG.error("Error : {}", error.toString());
@@ -166,64 +435,140 @@ public class JsonRpcEndpoint {
         }
     }
 
+    /**
+     * Completes a streaming call, replaying its result to its reader unless the decoder already handed it over.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void readResult(CallContext callContext, JsonNode result) {
+        SettableFuture<Object> future = callContext.getFuture();
+        if (result instanceof POJONode && ((POJONode) result).getPojo() instanceof StreamedResult) {
+            Exception failure = ((StreamedResult) ((POJONode) result).getPojo()).getFailure();
+            if (failure != null) {
+                LOG.error("Unable to read result of {}", callContext.rpcMethod.name, failure);
+                future.setException(failure);
+            } else {
+                future.set(null);
+            }
+            return;
+        }
+        TokenBuffer tokens = capturedTokens(result);
+        try (JsonParser parser = tokens != null ? tokens.asParser(objectMapper)
+                : (result != null ? result : NullNode.getInstance()).traverse(objectMapper)) {
+            while (parser.nextToken() != null) {
+                callContext.resultReader.readToken(parser);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Unable to read result of {}", callContext.rpcMethod.name, e);
+            future.setException(e);
+            return;
+        }
+        future.set(null);
+    }
+
+    /**
+     * Invoked by the {@link JsonRpcStreamingDecoder} of the channel, on the event loop, once the result of the reply
+     * with the given id starts coming in. The deadline of a call only covers the wait for its reply, so that a large
+     * result taking long to receive is not cancelled halfway.
+     *
+     * @return the reader of the streaming call the reply is for, null if it is not a pending streaming call
+     */
+    public JsonRpcResultReader startResult(JsonNode id) {
+        CallContext callContext = id.canConvertToLong() ? methodContext.get(id.longValue()) : null;
+        if (callContext == null || callContext.getFuture().isDone()) {
+            return null;
+        }
+        if (callContext.timeout != null) {
+            callContext.timeout.cancel();
+        }
+        return callContext.resultReader;
+    }
+
     public void processRequest(Object context, JsonNode requestJson) {
-        JsonRpc10Request request = new JsonRpc10Request(requestJson.get("id").asText());
-        request.setMethod(requestJson.get("method").asText());
+        String requestId = requestJson.get("id").asText();
+        String requestMethod = requestJson.get("method").asText();
         LOG.trace("Request : {} {} {}", requestJson.get("id"), requestJson.get("method"),
                 requestJson.get("params"));
         OvsdbRPC.Callback callback = requestCallbacks.get(context);
         if (callback != null) {
-            Method[] methods = callback.getClass().getDeclaredMethods();
-            for (Method method : methods) {
-                if (method.getName().equals(request.getMethod())) {
-                    Class<?>[] parameters = method.getParameterTypes();
-                    JsonNode params = requestJson.get("params");
-                    Object param = objectMapper.convertValue(params, parameters[1]);
-                    try {
-                        Invokable from = Invokable.from(method);
-                        from.setAccessible(true);
-                        from.invoke(callback, context, param);
-                    } catch (IllegalAccessException | InvocationTargetException e) {
-                        LOG.error("Unable to invoke callback {}", method.getName(), e);
-                    }
-                    return;
+            CallbackMethod method = CALLBACK_METHODS.get(callback.getClass()).get(requestMethod);
+            if (method != null) {
+                JsonNode params = requestJson.get("params");
+                if (notificationExecutor == null) {
+                    invokeCallback(method, callback, context, params);
+                } else {
+                    notificationExecutor.execute(() -> invokeCallback(method, callback, context, params));
+                    checkNotificationBacklog();
                 }
+                return;
             }
         }
 
         // Echo dont need any special processing. hence handling it internally.
 
-        if (request.getMethod().equals("echo")) {
-            JsonRpc10Response response = new JsonRpc10Response(request.getId());
+        if (requestMethod.equals("echo")) {
+            JsonRpc10Response response = new JsonRpc10Response(requestId);
             response.setError(null);
-            String jsonString = null;
-            try {
-                jsonString = objectMapper.writeValueAsString(response);
-                nettyChannel.writeAndFlush(jsonString);
-            } catch (JsonProcessingException e) {
-                LOG.error("Exception while processing JSON string {}", jsonString, e);
-            }
+            nettyChannel.writeAndFlush(response);
             return;
         }
 
         // send a null response for list_dbs
-        if (request.getMethod().equals("list_dbs")) {
-            JsonRpc10Response response = new JsonRpc10Response(request.getId());
+        if (requestMethod.equals("list_dbs")) {
+            JsonRpc10Response response = new JsonRpc10Response(requestId);
             response.setError(null);
-            String jsonString = null;
-            try {
-                jsonString = objectMapper.writeValueAsString(response);
-                nettyChannel.writeAndFlush(jsonString);
-            } catch (JsonProcessingException e) {
-                LOG.error("Exception while processing JSON string {}", jsonString, e);
-            }
+            nettyChannel.writeAndFlush(response);
             return;
         }
 
-        LOG.error("No handler for Request : {} on {}", requestJson.toString(), context);
+        LOG.error("No handler for Request : {} on {}", requestJson, context);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void invokeCallback(CallbackMethod method, OvsdbRPC.Callback callback, Object context,
+                                JsonNode params) {
+        try {
+            Object param = convertParams(params, method.paramType);
+            method.handle.invokeExact((Object) callback, context, param);
+        } catch (IOException e) {
+            LOG.error("Unable to parse params of callback {}", method.name, e);
+        } catch (Throwable e) {
+            LOG.error("Unable to invoke callback {}", method.name, e);
+        }
+    }
+
+    /**
+     * Converts request params to the callback parameter type. Params captured as raw tokens by the
+     * {@link JsonRpcStreamingDecoder} are handed over to update notifications unbound, so that the
+     * table-updates can be bound against the monitor's schema in a single pass.
+     */
+    private Object convertParams(JsonNode params, Class<?> type) throws IOException {
+        TokenBuffer tokens = capturedTokens(params);
+        if (type == UpdateNotification.class && tokens != null) {
+            return UpdateNotification.fromParser(tokens.asParser(objectMapper));
+        }
+        return objectMapper.convertValue(params, type);
+    }
+
+    /**
+     * Converts a response result to the RPC return type. Results captured as raw tokens by the
+     * {@link JsonRpcStreamingDecoder} are only turned into a tree if the RPC asks for one.
+     */
+    private Object convertResult(JsonNode result, JavaType javaType) throws IOException {
+        TokenBuffer tokens = capturedTokens(result);
+        if (tokens != null && javaType.isTypeOrSubTypeOf(JsonNode.class)) {
+            return objectMapper.readTree(tokens.asParser(objectMapper));
+        }
+        return objectMapper.convertValue(result, javaType);
+    }
+
+    private static TokenBuffer capturedTokens(JsonNode node) {
+        if (node instanceof POJONode && ((POJONode) node).getPojo() instanceof TokenBuffer) {
+            return (TokenBuffer) ((POJONode) node).getPojo();
+        }
+        return null;
     }
 
-    public Map<String, CallContext> getMethodContext() {
+    public LongKeyedTable<CallContext> getMethodContext() {
         return methodContext;
     }
 
@@ -232,8 +577,28 @@ public class JsonRpcEndpoint {
         LOG.info("Ovsdb Rpc Task interval is set to {} millisecond", reaperInterval);
     }
 
+    /**
+     * Sets the time after which the calls of the given method are cancelled, overriding the reaper interval.
+     *
+     * @param method name of the rpc method, e.g. "transact"
+     * @param timeout timeout in milliseconds, 0 to fall back to the reaper interval
+     */
+    public static void setMethodTimeout(String method, int timeout) {
+        if (timeout > 0) {
+            METHOD_TIMEOUTS.put(method, timeout);
+            LOG.info("Ovsdb Rpc {} timeout is set to {} millisecond", method, timeout);
+        } else {
+            METHOD_TIMEOUTS.remove(method);
+            LOG.info("Ovsdb Rpc {} timeout is set to the task interval", method);
+        }
+    }
+
+    static long getTimeout(String method) {
+        return METHOD_TIMEOUTS.getOrDefault(method, reaperInterval);
+    }
+
     public static void close() {
-        LOG.info("Shutting down reaper executor service");
-        FUTURE_REAPER_SERVICE.shutdownNow();
+        LOG.info("Shutting down reaper timer");
+        FUTURE_REAPER_TIMER.stop();
     }
 }
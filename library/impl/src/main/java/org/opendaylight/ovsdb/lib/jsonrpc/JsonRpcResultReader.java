@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+/**
+ * Reads the result of a call token by token, instead of the result being bound once the whole reply is received.
+ * The streaming rpc methods, whose name ends with "Streaming", take a reader as their last argument, before the
+ * optional timeout, and complete once the reader has read the whole result.
+ *
+ * <p>With the {@link JsonRpcStreamingDecoder}, the result is handed over to the reader as it is received, on the
+ * event loop, provided the "id" of the reply comes before its "result". Otherwise the result is replayed to the
+ * reader once the reply is complete.
+ */
+public interface JsonRpcResultReader {
+
+    /**
+     * Reads the current token of the parser. Called for each token of the result, in order; a null result is a
+     * single {@link com.fasterxml.jackson.core.JsonToken#VALUE_NULL} token.
+     *
+     * @param parser parser positioned on the token, which must not be moved
+     * @throws IOException if the token cannot be read, the call then fails with that exception
+     */
+    void readToken(JsonParser parser) throws IOException;
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JSON RPC 1.0 compatible decoder built on top of the Jackson non-blocking (async) parser.
+ *
+ * <p>Unlike {@link JsonRpcDecoder}, which scans the stream for balanced curly braces and then
+ * runs a second, blocking parse over the complete frame, this decoder feeds every received
+ * {@link ByteBuf} straight into the parser and builds the {@link JsonNode} tree token by token.
+ * Each byte is therefore inspected exactly once, and since all readable bytes are consumed on
+ * every invocation the cumulation buffer never has to be grown or merged. A composite cumulator
+ * is installed anyway so that partially consumed input is never copied.
+ *
+ * <p>The "params" and "result" members of a message are not turned into a tree either. Their tokens are
+ * captured in a {@link TokenBuffer}, held by a {@link com.fasterxml.jackson.databind.node.POJONode}, so
+ * that large update notifications and monitor replies can be bound straight to their schema by the
+ * receiver. Converting such a node with an {@link com.fasterxml.jackson.databind.ObjectMapper} replays
+ * the captured tokens. The "result" of a reply to a streaming call, see {@link JsonRpcResultReader}, is not
+ * captured at all: its tokens are handed over to the reader of the call as they are parsed, provided the "id"
+ * of the reply comes first.
+ *
+ * <p>Only UTF-8 input is supported; any other encoding results in a parse failure which is
+ * surfaced as a {@link io.netty.handler.codec.DecoderException}.
+ */
+public class JsonRpcStreamingDecoder extends ByteToMessageDecoder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JsonRpcStreamingDecoder.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int COPY_CHUNK_SIZE = 8192;
+
+    private final int maxFrameLength;
+    //Indicates if the frame limit warning was issued
+    private boolean maxFrameLimitWasReached = false;
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    // state of the record currently being assembled
+    private final Deque<ContainerNode<?>> containers = new ArrayDeque<>();
+    private String fieldName;
+    private long recordStartOffset;
+    private TokenBuffer captured;
+    private StreamedResult streamed;
+    private int capturedDepth;
+    private JsonNode recordId;
+
+    // notified of the start of the result of each reply, by id, returns the reader of a pending streaming call
+    private volatile Function<JsonNode, JsonRpcResultReader> resultReaders;
+
+    // scratch buffer used when the received ByteBuf is not backed by an accessible array
+    private byte[] copyBuffer;
+
+    private int recordsRead;
+
+    public JsonRpcStreamingDecoder(int maxFrameLength) {
+        this.maxFrameLength = maxFrameLength;
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create non-blocking JSON parser", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        setCumulator(COMPOSITE_CUMULATOR);
+    }
+
+    /**
+     * Sets the function notified, on the event loop, when the result of a reply whose id comes first starts, and
+     * returning the reader of the streaming call the reply is for, see {@link JsonRpcEndpoint#startResult(JsonNode)}.
+     */
+    public void setResultReaders(Function<JsonNode, JsonRpcResultReader> resultReaders) {
+        this.resultReaders = resultReaders;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> out) throws Exception {
+
+        LOG.trace("readable bytes {}, records read {}", buf.readableBytes(), recordsRead);
+
+        if (buf.hasArray()) {
+            int start = buf.arrayOffset() + buf.readerIndex();
+            feed(buf.array(), start, start + buf.readableBytes(), out);
+            buf.skipBytes(buf.readableBytes());
+        } else {
+            if (copyBuffer == null) {
+                copyBuffer = new byte[COPY_CHUNK_SIZE];
+            }
+            while (buf.isReadable()) {
+                int length = Math.min(copyBuffer.length, buf.readableBytes());
+                buf.readBytes(copyBuffer, 0, length);
+                feed(copyBuffer, 0, length, out);
+            }
+        }
+
+        /*
+         * As with JsonRpcDecoder, exceeding the frame length is only reported, never enforced.
+         */
+        if (!containers.isEmpty() && !maxFrameLimitWasReached
+                && parser.getCurrentLocation().getByteOffset() - recordStartOffset >= maxFrameLength) {
+            maxFrameLimitWasReached = true;
+            LOG.warn("***** OVSDB Frame limit of {} bytes has been reached! *****", this.maxFrameLength);
+        }
+    }
+
+    private void feed(byte[] data, int start, int end, List<Object> out) throws IOException {
+        feeder.feedInput(data, start, end);
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+            JsonNode completed = handleToken(token);
+            if (completed != null) {
+                out.add(completed);
+                recordsRead++;
+            }
+        }
+    }
+
+    /**
+     * Apply a single token to the record being assembled.
+     *
+     * @return the root node once a complete record has been read, null otherwise
+     */
+    private JsonNode handleToken(JsonToken token) throws IOException {
+        if (captured != null) {
+            return captureToken(token);
+        }
+        if (streamed != null) {
+            return streamToken(token);
+        }
+        switch (token) {
+            case FIELD_NAME:
+                fieldName = parser.getCurrentName();
+                if (containers.size() == 1 && ("params".equals(fieldName) || "result".equals(fieldName))) {
+                    JsonRpcResultReader reader = "result".equals(fieldName) ? startResult() : null;
+                    if (reader != null) {
+                        streamed = new StreamedResult(reader);
+                    } else {
+                        captured = new TokenBuffer(null, false);
+                    }
+                    capturedDepth = 0;
+                }
+                return null;
+            case START_OBJECT:
+                return openContainer(nodeFactory.objectNode());
+            case START_ARRAY:
+                return openContainer(nodeFactory.arrayNode());
+            case END_OBJECT:
+            case END_ARRAY:
+                ContainerNode<?> closed = containers.pop();
+                return containers.isEmpty() ? closed : null;
+            default:
+                JsonNode value = scalarValue(token);
+                if (containers.size() == 1 && "id".equals(fieldName)) {
+                    recordId = value;
+                }
+                return addValue(value);
+        }
+    }
+
+    private JsonRpcResultReader startResult() {
+        Function<JsonNode, JsonRpcResultReader> readers = resultReaders;
+        return readers != null && recordId != null ? readers.apply(recordId) : null;
+    }
+
+    private JsonNode captureToken(JsonToken token) throws IOException {
+        captured.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+            capturedDepth++;
+        } else if (token.isStructEnd()) {
+            capturedDepth--;
+        }
+        if (capturedDepth == 0) {
+            addValue(nodeFactory.pojoNode(captured));
+            captured = null;
+        }
+        return null;
+    }
+
+    private JsonNode streamToken(JsonToken token) {
+        streamed.read(parser);
+        if (token.isStructStart()) {
+            capturedDepth++;
+        } else if (token.isStructEnd()) {
+            capturedDepth--;
+        }
+        if (capturedDepth == 0) {
+            addValue(nodeFactory.pojoNode(streamed));
+            streamed = null;
+        }
+        return null;
+    }
+
+    private JsonNode openContainer(ContainerNode<?> container) {
+        if (containers.isEmpty()) {
+            recordStartOffset = parser.getTokenLocation().getByteOffset();
+            recordId = null;
+        } else {
+            addValue(container);
+        }
+        containers.push(container);
+        return null;
+    }
+
+    private JsonNode addValue(JsonNode value) {
+        ContainerNode<?> parent = containers.peek();
+        if (parent == null) {
+            // scalar at the root level, hand it over as is
+            return value;
+        }
+        if (parent.isObject()) {
+            ((ObjectNode) parent).set(fieldName, value);
+        } else {
+            ((ArrayNode) parent).add(value);
+        }
+        return null;
+    }
+
+    private JsonNode scalarValue(JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                return nodeFactory.textNode(parser.getText());
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return nodeFactory.numberNode(parser.getIntValue());
+                    case LONG:
+                        return nodeFactory.numberNode(parser.getLongValue());
+                    default:
+                        return nodeFactory.numberNode(parser.getBigIntegerValue());
+                }
+            case VALUE_NUMBER_FLOAT:
+                return nodeFactory.numberNode(parser.getDoubleValue());
+            case VALUE_TRUE:
+                return nodeFactory.booleanNode(true);
+            case VALUE_FALSE:
+                return nodeFactory.booleanNode(false);
+            case VALUE_NULL:
+                return nodeFactory.nullNode();
+            default:
+                return nodeFactory.pojoNode(parser.getEmbeddedObject());
+        }
+    }
+
+    @Override
+    protected void handlerRemoved0(ChannelHandlerContext ctx) throws Exception {
+        feeder.endOfInput();
+        parser.close();
+    }
+
+    public int getRecordsRead() {
+        return recordsRead;
+    }
+
+    /**
+     * The result of a reply handed over to the reader of its call while it was parsed, in place of the result.
+     */
+    static final class StreamedResult {
+        private final JsonRpcResultReader reader;
+        private Exception failure;
+
+        StreamedResult(JsonRpcResultReader reader) {
+            this.reader = reader;
+        }
+
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        void read(JsonParser parser) {
+            if (failure == null) {
+                try {
+                    reader.readToken(parser);
+                } catch (IOException | RuntimeException e) {
+                    // the rest of the result is skipped, the call fails once the reply is complete
+                    failure = e;
+                }
+            }
+        }
+
+        /**
+         * Returns the exception thrown by the reader, null if it read the whole result.
+         */
+        Exception getFailure() {
+            return failure;
+        }
+    }
+}
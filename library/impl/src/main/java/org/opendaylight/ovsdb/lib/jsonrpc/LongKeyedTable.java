@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import java.util.Arrays;
+
+/**
+ * Thread-safe table of values keyed by a primitive long, used to track the requests in flight on a
+ * connection by their numeric id.
+ *
+ * <p>Keys are kept unboxed in an open addressing array with linear probing; removal shifts the following
+ * entries back instead of leaving tombstones, so the table never degrades as requests come and go. All
+ * operations are synchronized, which is cheap as a table is only shared by the callers and the event loop
+ * of a single connection.
+ *
+ * @param <V> value type
+ */
+public final class LongKeyedTable<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    public LongKeyedTable() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Associates the value with the key, replacing any previous value.
+     *
+     * @return the previous value, or null if there was none
+     */
+    public synchronized V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+        int slot = find(key);
+        if (values[slot] != null) {
+            V previous = valueAt(slot);
+            values[slot] = value;
+            return previous;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > (mask + 1) >> 1) {
+            resize((mask + 1) << 1);
+        }
+        return null;
+    }
+
+    public synchronized V get(long key) {
+        return valueAt(find(key));
+    }
+
+    /**
+     * Removes the value associated with the key.
+     *
+     * @return the removed value, or null if there was none
+     */
+    public synchronized V remove(long key) {
+        int slot = find(key);
+        V removed = valueAt(slot);
+        if (removed == null) {
+            return null;
+        }
+        size--;
+        // shift back the entries of the probe sequence following the freed slot
+        int free = slot;
+        for (int next = (free + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            int home = slotOf(keys[next]);
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+        }
+        values[free] = null;
+        return removed;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private int find(long key) {
+        int slot = slotOf(key);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int slotOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32) & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
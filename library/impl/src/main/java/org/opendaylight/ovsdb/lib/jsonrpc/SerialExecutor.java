@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor running its tasks one at a time, in submission order, on top of a shared executor.
+ *
+ * <p>Any number of serial executors can share the threads of the delegate: a serial executor only occupies
+ * one of them while it has pending tasks, and gives it back after a batch so that a busy connection cannot
+ * monopolize the delegate.
+ */
+final class SerialExecutor implements Executor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SerialExecutor.class);
+    private static final int MAX_BATCH = 64;
+
+    private final Executor delegate;
+    private final IntConsumer completionListener;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * Creates a serial executor.
+     *
+     * @param delegate executor providing the threads
+     * @param completionListener invoked after each task with the number of tasks still pending
+     */
+    SerialExecutor(Executor delegate, IntConsumer completionListener) {
+        this.delegate = delegate;
+        this.completionListener = completionListener;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        pending.incrementAndGet();
+        tasks.add(task);
+        schedule();
+    }
+
+    /**
+     * Returns the number of tasks submitted and not yet completed.
+     */
+    int pending() {
+        return pending.get();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                delegate.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                LOG.warn("Dropping {} tasks, executor {} rejected them", pending.get(), delegate, e);
+                tasks.clear();
+                pending.set(0);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < MAX_BATCH; i++) {
+                Runnable task = tasks.poll();
+                if (task == null) {
+                    break;
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    LOG.error("Task {} failed", task, e);
+                } finally {
+                    completionListener.accept(pending.decrementAndGet());
+                }
+            }
+        } finally {
+            scheduled.set(false);
+        }
+        // tasks may have been added after the last poll, but before the scheduled flag was cleared
+        if (!tasks.isEmpty()) {
+            schedule();
+        }
+    }
+}
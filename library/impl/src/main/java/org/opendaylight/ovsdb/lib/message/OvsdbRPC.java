@@ -11,8 +11,13 @@ package org.opendaylight.ovsdb.lib.message;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.util.List;
+import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcResultReader;
 import org.opendaylight.ovsdb.lib.jsonrpc.Params;
 
+/**
+ * OVSDB JSON-RPC methods. Every call is cancelled once its deadline expires: by default the timeout configured
+ * for the method, while the overloads taking a trailing {@code long} use that many milliseconds instead.
+ */
 public interface OvsdbRPC {
 
     String REGISTER_CALLBACK_METHOD = "registerCallback";
@@ -22,12 +27,26 @@ public interface OvsdbRPC {
 
     ListenableFuture<List<String>> echo();
 
+    ListenableFuture<List<String>> echo(long timeoutMillis);
+
     ListenableFuture<JsonNode> monitor(Params equest);
 
+    ListenableFuture<JsonNode> monitor(Params equest, long timeoutMillis);
+
+    /**
+     * Streaming variant of monitor: the initial contents are handed over to the reader as they are received,
+     * instead of being bound as a whole, so that large initial dumps are never held in full.
+     */
+    ListenableFuture<Void> monitorStreaming(Params request, JsonRpcResultReader reader);
+
+    ListenableFuture<Void> monitorStreaming(Params request, JsonRpcResultReader reader, long timeoutMillis);
+
     ListenableFuture<List<String>> list_dbs();
 
     ListenableFuture<List<JsonNode>> transact(TransactBuilder transact);
 
+    ListenableFuture<List<JsonNode>> transact(TransactBuilder transact, long timeoutMillis);
+
     ListenableFuture<Response> cancel(String id);
 
     ListenableFuture<JsonNode> monitor_cancel(Params jsonValue);
@@ -8,8 +8,11 @@
 package org.opendaylight.ovsdb.lib.message;
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.io.IOException;
 import org.opendaylight.ovsdb.lib.notation.json.Converter.UpdateNotificationConverter;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
 import org.slf4j.Logger;
@@ -24,6 +27,30 @@ public class UpdateNotification {
     private DatabaseSchema databaseSchema;
     private TableUpdates update;
     private JsonNode updatesJson;
+    private JsonParser updatesParser;
+
+    /**
+     * Creates an UpdateNotification from the "params" of an update request without materializing the
+     * table-updates. The returned notification carries a parser positioned on the start of the
+     * table-updates object, which the receiver binds against the schema of the monitor.
+     *
+     * @param parser parser positioned before the params array
+     * @return the notification, or null if params is not a [json-value, table-updates] array
+     */
+    public static UpdateNotification fromParser(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            return null;
+        }
+        UpdateNotification un = new UpdateNotification();
+        parser.nextToken();
+        un.setContext(parser.getValueAsString());
+        parser.skipChildren();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        un.setUpdatesParser(parser);
+        return un;
+    }
 
     public Object getContext() {
         return context;
@@ -54,6 +81,18 @@ public class UpdateNotification {
         return updatesJson;
     }
 
+    public void setUpdatesParser(JsonParser updatesParser) {
+        this.updatesParser = updatesParser;
+    }
+
+    /**
+     * Parser positioned on the start of the table-updates object, if this notification was created
+     * by {@link #fromParser(JsonParser)}. In that case {@link #getUpdates()} returns null.
+     */
+    public JsonParser getUpdatesParser() {
+        return updatesParser;
+    }
+
     public DatabaseSchema getDatabaseSchema() {
         return databaseSchema;
     }
@@ -22,7 +22,7 @@ public class Column<E extends TableSchema<E>, D> {
     }
 
     public <E extends TableSchema<E>, T> T getData(ColumnSchema<E, T> anotherSchema) {
-        return anotherSchema.validate(data);
+        return anotherSchema.validate(getData());
     }
 
     public D getData() {
@@ -43,13 +43,15 @@ public class Column<E extends TableSchema<E>, D> {
 
     @Override
     public String toString() {
-        return "[" + schema.getName() + "=" + data + "]";
+        return "[" + getSchema().getName() + "=" + getData() + "]";
     }
 
     @Override
     public int hashCode() {
         final int prime = 31;
         int result = 1;
+        final D data = getData();
+        final ColumnSchema<E, D> schema = getSchema();
         result = prime * result + ((data == null) ? 0 : data.hashCode());
         result = prime * result + ((schema == null) ? 0 : schema.hashCode());
         return result;
@@ -63,22 +65,25 @@ public class Column<E extends TableSchema<E>, D> {
         if (obj == null) {
             return false;
         }
-        if (getClass() != obj.getClass()) {
+        // the columns read from a row are views of the row, they compare equal to the plain columns
+        if (!(obj instanceof Column)) {
             return false;
         }
         Column other = (Column) obj;
+        final D data = getData();
+        final ColumnSchema<E, D> schema = getSchema();
         if (data == null) {
-            if (other.data != null) {
+            if (other.getData() != null) {
                 return false;
             }
-        } else if (!data.equals(other.data)) {
+        } else if (!data.equals(other.getData())) {
             return false;
         }
         if (schema == null) {
-            if (other.schema != null) {
+            if (other.getSchema() != null) {
                 return false;
             }
-        } else if (!schema.equals(other.schema)) {
+        } else if (!schema.equals(other.getSchema())) {
             return false;
         }
         return true;
@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.notation;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * Immutable sets and maps sized for the values of OVSDB columns, most of which hold no more than a few elements:
+ * the shared empty collections, the singleton ones, then up to {@value #MAX_ARRAY_SIZE} elements in a flat array
+ * searched linearly. Larger collections are hashed.
+ */
+final class CompactCollections {
+
+    static final int MAX_ARRAY_SIZE = 8;
+
+    private CompactCollections() {
+    }
+
+    /**
+     * Returns an immutable set of the distinct elements, in their order up to {@value #MAX_ARRAY_SIZE} elements.
+     */
+    static <T> Set<T> setOf(Collection<? extends T> elements) {
+        switch (elements.size()) {
+            case 0:
+                return Collections.emptySet();
+            case 1:
+                return Collections.singleton(elements.iterator().next());
+            default:
+                if (elements.size() > MAX_ARRAY_SIZE) {
+                    return Collections.unmodifiableSet(new HashSet<>(elements));
+                }
+                Object[] distinct = new Object[elements.size()];
+                int size = 0;
+                for (T element : elements) {
+                    if (indexOf(distinct, size, 1, element) < 0) {
+                        distinct[size++] = element;
+                    }
+                }
+                return size == 1 ? Collections.singleton((T) distinct[0])
+                        : new ArraySet<>(size == distinct.length ? distinct : Arrays.copyOf(distinct, size));
+        }
+    }
+
+    /**
+     * Returns an immutable map of the keys to the values at the same index, a later duplicate key replacing the value
+     * of the earlier one.
+     */
+    static <K, V> Map<K, V> mapOf(List<? extends K> keys, List<? extends V> values) {
+        switch (keys.size()) {
+            case 0:
+                return Collections.emptyMap();
+            case 1:
+                return Collections.singletonMap(keys.get(0), values.get(0));
+            default:
+                if (keys.size() > MAX_ARRAY_SIZE) {
+                    Map<K, V> map = new HashMap<>(2 * keys.size());
+                    for (int i = 0; i < keys.size(); i++) {
+                        map.put(keys.get(i), values.get(i));
+                    }
+                    return Collections.unmodifiableMap(map);
+                }
+                // keys and values interleaved
+                Object[] entries = new Object[2 * keys.size()];
+                int size = 0;
+                for (int i = 0; i < keys.size(); i++) {
+                    int index = indexOf(entries, 2 * size, 2, keys.get(i));
+                    if (index < 0) {
+                        index = 2 * size++;
+                        entries[index] = keys.get(i);
+                    }
+                    entries[index + 1] = values.get(i);
+                }
+                return size == 1 ? Collections.singletonMap((K) entries[0], (V) entries[1])
+                        : new ArrayMap<>(2 * size == entries.length ? entries : Arrays.copyOf(entries, 2 * size));
+        }
+    }
+
+    private static int indexOf(Object[] array, int length, int stride, Object element) {
+        for (int i = 0; i < length; i += stride) {
+            if (Objects.equals(array[i], element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final class ArraySet<T> extends AbstractSet<T> {
+        private final Object[] elements;
+
+        ArraySet(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public boolean contains(Object element) {
+            return indexOf(elements, elements.length, 1, element) >= 0;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new ArrayIterator<>(elements, 1, index -> (T) elements[index]);
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+    }
+
+    private static final class ArrayMap<K, V> extends AbstractMap<K, V> {
+        private final Object[] entries;
+
+        ArrayMap(Object[] entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public V get(Object key) {
+            int index = indexOf(entries, entries.length, 2, key);
+            return index < 0 ? null : (V) entries[index + 1];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(entries, entries.length, 2, key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return entries.length / 2;
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return new AbstractSet<Entry<K, V>>() {
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return new ArrayIterator<>(entries, 2,
+                        index -> new SimpleImmutableEntry<>((K) entries[index], (V) entries[index + 1]));
+                }
+
+                @Override
+                public int size() {
+                    return entries.length / 2;
+                }
+            };
+        }
+    }
+
+    private static final class ArrayIterator<T> implements Iterator<T> {
+        private final Object[] array;
+        private final int stride;
+        private final IntFunction<T> element;
+        private int index;
+
+        ArrayIterator(Object[] array, int stride, IntFunction<T> element) {
+            this.array = array;
+            this.stride = stride;
+            this.element = element;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < array.length;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T next = element.apply(index);
+            index += stride;
+            return next;
+        }
+    }
+}
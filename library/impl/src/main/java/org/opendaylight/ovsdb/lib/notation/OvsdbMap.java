@@ -11,7 +11,9 @@ package org.opendaylight.ovsdb.lib.notation;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.collect.ForwardingMap;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.opendaylight.ovsdb.lib.notation.json.Converter;
 import org.opendaylight.ovsdb.lib.notation.json.OvsdbMapSerializer;
@@ -20,12 +22,18 @@ import org.opendaylight.ovsdb.lib.notation.json.OvsdbMapSerializer;
 @JsonSerialize(using = OvsdbMapSerializer.class)
 public class OvsdbMap<K, V> extends ForwardingMap<K, V> {
 
-    private final Map<K, V> target = new HashMap<>();
+    private final Map<K, V> target;
 
-    public OvsdbMap() {}
+    public OvsdbMap() {
+        this(new HashMap<>(), false);
+    }
 
     public OvsdbMap(Map<K, V> value) {
-        this.target.putAll(value);
+        this(value, true);
+    }
+
+    private OvsdbMap(Map<K, V> value, boolean copy) {
+        this.target = copy ? new HashMap<>(value) : value;
     }
 
     @Override
@@ -36,4 +44,26 @@ public class OvsdbMap<K, V> extends ForwardingMap<K, V> {
     public static <K,V> OvsdbMap<K,V> fromMap(Map<K, V> value) {
         return new OvsdbMap<>(value);
     }
+
+    /**
+     * Returns the immutable empty map.
+     */
+    public static <K, V> OvsdbMap<K, V> of() {
+        return new OvsdbMap<>(Collections.emptyMap(), false);
+    }
+
+    /**
+     * Returns an immutable map of the single entry.
+     */
+    public static <K, V> OvsdbMap<K, V> of(K key, V value) {
+        return new OvsdbMap<>(Collections.singletonMap(key, value), false);
+    }
+
+    /**
+     * Returns an immutable map of the keys to the values at the same index, sized for the few entries most map
+     * columns hold.
+     */
+    public static <K, V> OvsdbMap<K, V> copyOf(List<? extends K> keys, List<? extends V> values) {
+        return new OvsdbMap<>(CompactCollections.mapOf(keys, values), false);
+    }
 }
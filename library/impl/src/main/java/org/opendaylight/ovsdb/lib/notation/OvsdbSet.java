@@ -11,6 +11,8 @@ package org.opendaylight.ovsdb.lib.notation;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.collect.ForwardingSet;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import org.opendaylight.ovsdb.lib.notation.json.Converter;
@@ -20,9 +22,11 @@ import org.opendaylight.ovsdb.lib.notation.json.OvsdbSetSerializer;
 @JsonSerialize(using = OvsdbSetSerializer.class)
 public class OvsdbSet<T> extends ForwardingSet<T> {
 
-    Set<T> target = new HashSet<>();
+    Set<T> target;
 
-    public OvsdbSet() {}
+    public OvsdbSet() {
+        this.target = new HashSet<>();
+    }
 
     public OvsdbSet(Set<T> backing) {
         this.target = backing;
@@ -33,6 +37,27 @@ public class OvsdbSet<T> extends ForwardingSet<T> {
         return target;
     }
 
+    /**
+     * Returns the immutable empty set.
+     */
+    public static <D> OvsdbSet<D> of() {
+        return new OvsdbSet<>(Collections.emptySet());
+    }
+
+    /**
+     * Returns an immutable set of the single element.
+     */
+    public static <D> OvsdbSet<D> of(D element) {
+        return new OvsdbSet<>(Collections.singleton(element));
+    }
+
+    /**
+     * Returns an immutable set of the elements, sized for the few elements most set columns hold.
+     */
+    public static <D> OvsdbSet<D> copyOf(Collection<? extends D> elements) {
+        return new OvsdbSet<>(CompactCollections.setOf(elements));
+    }
+
     public static <D> OvsdbSet<D> fromSet(Set<D> value) {
         return new OvsdbSet<>(value);
     }
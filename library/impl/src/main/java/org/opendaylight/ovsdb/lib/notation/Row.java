@@ -10,19 +10,34 @@ package org.opendaylight.ovsdb.lib.notation;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.opendaylight.ovsdb.lib.notation.json.RowSerializer;
 import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
 import org.opendaylight.ovsdb.lib.schema.TableSchema;
 
+/**
+ * A row of a table. The values of the columns known to the table schema are stored in an array indexed by the
+ * column ordinals of the schema, with a bitmap of the columns present, rather than in a map of {@link Column}s:
+ * large tables are held in memory as rows. The columns returned are views of the row, setting their data updates
+ * the row. Columns the table schema does not know, and all the columns of a row without a schema, are kept in a
+ * map on the side.
+ */
 @JsonSerialize(using = RowSerializer.class)
 public class Row<E extends TableSchema<E>> {
+    private static final Object[] NO_VALUES = new Object[0];
+    private static final long[] NO_BITS = new long[0];
+
     @JsonIgnore
     private TableSchema<E> tableSchema;
-    protected Map<String, Column<E, ?>> columns = new HashMap<>();
+    private Object[] values = NO_VALUES;
+    private long[] present = NO_BITS;
+    private Map<String, Column<E, ?>> otherColumns;
 
     public Row() {}
 
@@ -33,20 +48,29 @@ public class Row<E extends TableSchema<E>> {
     public Row(TableSchema<E> tableSchema, List<Column<E, ?>> columns) {
         this.tableSchema = tableSchema;
         for (Column<E, ?> column : columns) {
-            this.columns.put(column.getSchema().getName(), column);
+            put(column.getSchema().getName(), column);
         }
     }
 
     public <D> Column<E, D> getColumn(ColumnSchema<E, D> schema) {
-        return (Column<E, D>) columns.get(schema.getName());
+        return (Column<E, D>) getColumn(schema.getName());
     }
 
     public Collection<Column<E, ?>> getColumns() {
-        return columns.values();
+        List<Column<E, ?>> columns = new ArrayList<>(size());
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            if (isPresent(ordinal)) {
+                columns.add(new RowColumn<>(tableSchema.columnAt(ordinal), ordinal));
+            }
+        }
+        if (otherColumns != null) {
+            columns.addAll(otherColumns.values());
+        }
+        return columns;
     }
 
     public void addColumn(String columnName, Column<E, ?> data) {
-        this.columns.put(columnName, data);
+        put(columnName, data);
     }
 
     public TableSchema<E> getTableSchema() {
@@ -54,12 +78,37 @@ public class Row<E extends TableSchema<E>> {
     }
 
     public void setTableSchema(TableSchema<E> tableSchema) {
+        if (this.tableSchema == tableSchema) {
+            return;
+        }
+        if (size() == 0) {
+            this.tableSchema = tableSchema;
+            return;
+        }
+        // the ordinals are those of the previous schema, store the columns again
+        Map<String, Column<E, ?>> columns = new LinkedHashMap<>();
+        for (Column<E, ?> column : getColumns()) {
+            columns.put(column.getSchema().getName(), detach(column));
+        }
+        if (otherColumns != null) {
+            columns.putAll(otherColumns);
+        }
         this.tableSchema = tableSchema;
+        this.values = NO_VALUES;
+        this.present = NO_BITS;
+        this.otherColumns = null;
+        columns.forEach(this::put);
     }
 
     @Override
     public String toString() {
-        return "Row [columns=" + columns + "]";
+        StringBuilder builder = new StringBuilder("Row [columns={");
+        String separator = "";
+        for (Column<E, ?> column : getColumns()) {
+            builder.append(separator).append(column.getSchema().getName()).append('=').append(column);
+            separator = ", ";
+        }
+        return builder.append("}]").toString();
     }
 
     /**
@@ -72,7 +121,12 @@ public class Row<E extends TableSchema<E>> {
     public int hashCode() {
         final int prime = 31;
         int result = 1;
-        result = prime * result + ((columns == null) ? 0 : columns.hashCode());
+        // the hash code of the map of the columns by name this class used to hold
+        int columnsHash = 0;
+        for (Column<E, ?> column : getColumns()) {
+            columnsHash += column.getSchema().getName().hashCode() ^ column.hashCode();
+        }
+        result = prime * result + columnsHash;
         return result;
     }
 
@@ -93,14 +147,88 @@ public class Row<E extends TableSchema<E>> {
         if (getClass() != obj.getClass()) {
             return false;
         }
-        Row other = (Row) obj;
-        if (columns == null) {
-            if (other.columns != null) {
+        Row<E> other = (Row<E>) obj;
+        if (size() != other.size()) {
+            return false;
+        }
+        for (Column<E, ?> column : getColumns()) {
+            if (!column.equals(other.getColumn(column.getSchema().getName()))) {
                 return false;
             }
-        } else if (!columns.equals(other.columns)) {
-            return false;
         }
         return true;
     }
+
+    private Column<E, ?> getColumn(String columnName) {
+        int ordinal = ordinal(columnName);
+        if (ordinal >= 0) {
+            return isPresent(ordinal) ? new RowColumn<>(tableSchema.columnAt(ordinal), ordinal) : null;
+        }
+        return otherColumns == null ? null : otherColumns.get(columnName);
+    }
+
+    private void put(String columnName, Column<E, ?> column) {
+        int ordinal = ordinal(columnName);
+        if (ordinal < 0) {
+            if (otherColumns == null) {
+                otherColumns = new HashMap<>();
+            }
+            otherColumns.put(columnName, column);
+            return;
+        }
+        set(ordinal, column.getData());
+    }
+
+    private static <E extends TableSchema<E>, D> Column<E, D> detach(Column<E, D> column) {
+        return new Column<>(column.getSchema(), column.getData());
+    }
+
+    private int ordinal(String columnName) {
+        return tableSchema == null ? -1 : tableSchema.columnOrdinal(columnName);
+    }
+
+    private boolean isPresent(int ordinal) {
+        return ordinal < values.length && (present[ordinal >>> 6] & 1L << ordinal) != 0;
+    }
+
+    private void set(int ordinal, Object value) {
+        if (ordinal >= values.length) {
+            // size the storage for all the columns of the table, ordinals only grow when the schema does
+            int length = Math.max(ordinal + 1, tableSchema.getColumnOrdinalCount());
+            values = Arrays.copyOf(values, length);
+            present = Arrays.copyOf(present, (length + 63) >>> 6);
+        }
+        values[ordinal] = value;
+        present[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    private int size() {
+        int size = otherColumns == null ? 0 : otherColumns.size();
+        for (long bits : present) {
+            size += Long.bitCount(bits);
+        }
+        return size;
+    }
+
+    /**
+     * A column of the row, reading and writing the row storage.
+     */
+    private final class RowColumn<D> extends Column<E, D> {
+        private final int ordinal;
+
+        RowColumn(ColumnSchema<E, D> schema, int ordinal) {
+            super(schema, null);
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public D getData() {
+            return (D) values[ordinal];
+        }
+
+        @Override
+        public void setData(D data) {
+            set(ordinal, data);
+        }
+    }
 }
@@ -9,33 +9,93 @@ package org.opendaylight.ovsdb.lib.notation;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.nio.CharBuffer;
 import org.opendaylight.ovsdb.lib.notation.json.UUIDSerializer;
 import org.opendaylight.ovsdb.lib.notation.json.UUIDStringConverter;
 
 /**
  * Handles both uuid and named-uuid.
+ *
+ * <p>A uuid in the canonical RFC 4122 form is held as two longs, and is formatted only when {@link #toString()} is
+ * called. Anything else is a named-uuid, the name given to a row inserted in the same transaction, and is held as
+ * is.
  */
 @JsonDeserialize(contentConverter = UUIDStringConverter.class)
 @JsonSerialize(using = UUIDSerializer.class)
 public class UUID {
 
-    String val;
+    private static final int LENGTH = 36;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    // the name held for a null value, told apart from an empty name by identity
+    private static final String NULL_NAME = new String();
+
+    private final long mostSigBits;
+    private final long leastSigBits;
+    // null for a uuid
+    private final String name;
 
     public UUID(String value) {
-        this.val = value;
+        this(value, value);
+    }
+
+    private UUID(String value, CharSequence chars) {
+        if (isCanonical(chars)) {
+            this.mostSigBits = parseHex(chars, 0, 8) << 32 | parseHex(chars, 9, 13) << 16 | parseHex(chars, 14, 18);
+            this.leastSigBits = parseHex(chars, 19, 23) << 48 | parseHex(chars, 24, LENGTH);
+            this.name = null;
+        } else {
+            this.mostSigBits = 0;
+            this.leastSigBits = 0;
+            this.name = value != null ? value : chars != null ? chars.toString() : NULL_NAME;
+        }
+    }
+
+    public UUID(long mostSigBits, long leastSigBits) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        this.name = null;
+    }
+
+    /**
+     * Parses a uuid or named-uuid from a range of characters, such as the text buffer of a JSON parser, without
+     * building a String unless it is a named-uuid.
+     */
+    public static UUID fromChars(char[] chars, int offset, int length) {
+        return new UUID(null, CharBuffer.wrap(chars, offset, length));
+    }
+
+    /**
+     * Returns true if this is a named-uuid rather than a uuid.
+     */
+    public boolean isNamed() {
+        return name != null;
     }
 
     @Override
     public String toString() {
-        return val;
+        if (name != null) {
+            return name != NULL_NAME ? name : null;
+        }
+        char[] chars = new char[LENGTH];
+        formatHex(chars, 0, mostSigBits >>> 32, 8);
+        chars[8] = '-';
+        formatHex(chars, 9, mostSigBits >>> 16, 4);
+        chars[13] = '-';
+        formatHex(chars, 14, mostSigBits, 4);
+        chars[18] = '-';
+        formatHex(chars, 19, leastSigBits >>> 48, 4);
+        chars[23] = '-';
+        formatHex(chars, 24, leastSigBits, 12);
+        return new String(chars);
     }
 
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + ((val == null) ? 0 : val.hashCode());
-        return result;
+        if (name != null) {
+            return name.hashCode();
+        }
+        return Long.hashCode(mostSigBits ^ leastSigBits);
     }
 
     @Override
@@ -50,13 +110,43 @@ public class UUID {
             return false;
         }
         UUID other = (UUID) obj;
-        if (val == null) {
-            if (other.val != null) {
+        if (name == null) {
+            return other.name == null && mostSigBits == other.mostSigBits && leastSigBits == other.leastSigBits;
+        }
+        if (name == NULL_NAME || other.name == NULL_NAME) {
+            return name == other.name;
+        }
+        return name.equals(other.name);
+    }
+
+    private static boolean isCanonical(CharSequence chars) {
+        if (chars == null || chars.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            char character = chars.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (character != '-') {
+                    return false;
+                }
+            } else if (Character.digit(character, 16) < 0) {
                 return false;
             }
-        } else if (!val.equals(other.val)) {
-            return false;
         }
         return true;
     }
+
+    private static long parseHex(CharSequence chars, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            value = value << 4 | Character.digit(chars.charAt(i), 16);
+        }
+        return value;
+    }
+
+    private static void formatHex(char[] chars, int offset, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            chars[offset + i] = HEX_DIGITS[(int) (value >>> (4 * (digits - 1 - i))) & 0xf];
+        }
+    }
 }
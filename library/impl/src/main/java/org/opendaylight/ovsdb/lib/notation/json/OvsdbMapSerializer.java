@@ -22,11 +22,10 @@ public class OvsdbMapSerializer extends JsonSerializer<OvsdbMap<?,?>> {
         generator.writeStartArray();
         generator.writeString("map");
         generator.writeStartArray();
-        Map<?,?> javaMap = map.delegate();
-        for (Object set : javaMap.keySet()) {
+        for (Map.Entry<?,?> entry : map.delegate().entrySet()) {
             generator.writeStartArray();
-            generator.writeObject(set);
-            generator.writeObject(javaMap.get(set));
+            generator.writeObject(entry.getKey());
+            generator.writeObject(entry.getValue());
             generator.writeEndArray();
         }
         generator.writeEndArray();
@@ -8,7 +8,11 @@
 
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -80,6 +84,45 @@ public abstract class BaseType<E extends BaseType<E>> {
 
     public abstract Object toValue(JsonNode value);
 
+    /**
+     * Streaming counterpart of {@link #toValue(JsonNode)}. The parser must be positioned on the first
+     * token of the value; on return it is positioned on the last token of the value.
+     */
+    public Object toValue(JsonParser parser) throws IOException {
+        return toValue((JsonNode) parser.readValueAsTree());
+    }
+
+    /**
+     * Decodes an atom encoded as a tagged 2-element array, such as ["uuid", "..."], whose opening bracket
+     * and tag have already been consumed. The parser must be positioned on the tag; on return it is
+     * positioned on the closing bracket of the array.
+     */
+    protected Object toTaggedValue(String tag, JsonParser parser) throws IOException {
+        parser.nextToken();
+        skipToEndOfArray(parser);
+        return toValue(JsonNodeFactory.instance.arrayNode());
+    }
+
+    /**
+     * Advances the parser to the closing bracket of the enclosing array. The parser must be positioned on
+     * a not yet consumed element of that array, or on its closing bracket.
+     */
+    static void skipToEndOfArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        while (token != null && token != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            token = parser.nextToken();
+        }
+    }
+
+    static String scalarText(JsonParser parser) throws IOException {
+        if (parser.currentToken().isScalarValue()) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return "";
+    }
+
     public abstract void validate(Object value);
 
     public static class IntegerBaseType extends BaseType<IntegerBaseType> {
@@ -113,6 +156,14 @@ public abstract class BaseType<E extends BaseType<E>> {
             return value.asLong();
         }
 
+        @Override
+        public Object toValue(JsonParser parser) throws IOException {
+            if (parser.currentToken().isScalarValue()) {
+                return parser.getValueAsLong();
+            }
+            return super.toValue(parser);
+        }
+
         @Override
         public void validate(Object value) {
 
@@ -231,6 +282,14 @@ public abstract class BaseType<E extends BaseType<E>> {
             return value.asDouble();
         }
 
+        @Override
+        public Object toValue(JsonParser parser) throws IOException {
+            if (parser.currentToken().isScalarValue()) {
+                return parser.getValueAsDouble();
+            }
+            return super.toValue(parser);
+        }
+
         @Override
         public void validate(Object value) {
 
@@ -338,6 +397,14 @@ public abstract class BaseType<E extends BaseType<E>> {
             return value.asBoolean();
         }
 
+        @Override
+        public Object toValue(JsonParser parser) throws IOException {
+            if (parser.currentToken().isScalarValue()) {
+                return parser.getValueAsBoolean();
+            }
+            return super.toValue(parser);
+        }
+
         @Override
         public void validate(Object value) {
 
@@ -353,6 +420,7 @@ public abstract class BaseType<E extends BaseType<E>> {
         int minLength = Integer.MIN_VALUE;
         int maxLength = Integer.MAX_VALUE;
         Set<String> enums;
+        StringInterner interner;
 
         @Override
         public StringBaseType fromString(String typeString) {
@@ -377,7 +445,15 @@ public abstract class BaseType<E extends BaseType<E>> {
 
         @Override
         public Object toValue(JsonNode value) {
-            return value.asText();
+            return interner == null ? value.asText() : interner.intern(value.asText());
+        }
+
+        @Override
+        public Object toValue(JsonParser parser) throws IOException {
+            if (interner != null && parser.currentToken() == JsonToken.VALUE_STRING) {
+                return interner.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            }
+            return scalarText(parser);
         }
 
         @Override
@@ -427,6 +503,14 @@ public abstract class BaseType<E extends BaseType<E>> {
             this.enums = enums;
         }
 
+        public StringInterner getInterner() {
+            return interner;
+        }
+
+        public void setInterner(StringInterner interner) {
+            this.interner = interner;
+        }
+
         @Override
         public String toString() {
             return "StringBaseType";
@@ -512,6 +596,30 @@ public abstract class BaseType<E extends BaseType<E>> {
             return null;
         }
 
+        @Override
+        public Object toValue(JsonParser parser) throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                // expanded ReferencedRow, see toValue(JsonNode)
+                return super.toValue(parser);
+            }
+            if (parser.nextToken() != JsonToken.VALUE_STRING) {
+                skipToEndOfArray(parser);
+                return null;
+            }
+            return toTaggedValue(parser.getText(), parser);
+        }
+
+        @Override
+        protected Object toTaggedValue(String tag, JsonParser parser) throws IOException {
+            UUID uuid = null;
+            if ("uuid".equals(tag) && parser.nextToken() == JsonToken.VALUE_STRING) {
+                uuid = UUID.fromChars(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                parser.nextToken();
+            }
+            skipToEndOfArray(parser);
+            return uuid;
+        }
+
         @Override
         public void validate(Object value) {
 
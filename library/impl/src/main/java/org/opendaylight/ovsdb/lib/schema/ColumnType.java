@@ -8,7 +8,12 @@
 
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import org.opendaylight.ovsdb.lib.error.TyperException;
 import org.opendaylight.ovsdb.lib.jsonrpc.JsonUtils;
 import org.opendaylight.ovsdb.lib.notation.OvsdbMap;
@@ -108,6 +113,12 @@ public abstract class ColumnType {
 
     public abstract Object valueFromJson(JsonNode value);
 
+    /**
+     * Streaming counterpart of {@link #valueFromJson(JsonNode)}. The parser must be positioned on the first
+     * token of the value; on return it is positioned on the last token of the value.
+     */
+    public abstract Object valueFromJson(JsonParser parser) throws IOException;
+
     public abstract void validate(Object value);
 
     @Override
@@ -199,26 +210,78 @@ public abstract class ColumnType {
         @Override
         public Object valueFromJson(JsonNode value) {
             if (isMultiValued()) {
-                OvsdbSet<Object> result = new OvsdbSet<>();
-                if (value.isArray()) {
-                    if (value.size() == 2) {
-                        if (value.get(0).isTextual() && "set".equals(value.get(0).asText())) {
-                            for (JsonNode node: value.get(1)) {
-                                result.add(getBaseType().toValue(node));
-                            }
-                        } else {
-                            result.add(getBaseType().toValue(value));
+                if (!value.isArray()) {
+                    return OvsdbSet.of(getBaseType().toValue(value));
+                }
+                if (value.size() != 2) {
+                    return OvsdbSet.of();
+                }
+                if (!value.get(0).isTextual() || !"set".equals(value.get(0).asText())) {
+                    return OvsdbSet.of(getBaseType().toValue(value));
+                }
+                JsonNode elements = value.get(1);
+                switch (elements.size()) {
+                    case 0:
+                        return OvsdbSet.of();
+                    case 1:
+                        return OvsdbSet.of(getBaseType().toValue(elements.iterator().next()));
+                    default:
+                        List<Object> result = new ArrayList<>(elements.size());
+                        for (JsonNode node: elements) {
+                            result.add(getBaseType().toValue(node));
                         }
-                    }
-                } else {
-                    result.add(getBaseType().toValue(value));
+                        return OvsdbSet.copyOf(result);
                 }
-                return result;
             } else {
                 return getBaseType().toValue(value);
             }
         }
 
+        @Override
+        public Object valueFromJson(JsonParser parser) throws IOException {
+            if (!isMultiValued()) {
+                return getBaseType().toValue(parser);
+            }
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                return OvsdbSet.of(getBaseType().toValue(parser));
+            }
+            if (parser.nextToken() != JsonToken.VALUE_STRING) {
+                BaseType.skipToEndOfArray(parser);
+                return OvsdbSet.of();
+            }
+            String tag = parser.getText();
+            if (!"set".equals(tag)) {
+                // a single atom such as ["uuid", "..."]
+                return OvsdbSet.of(getBaseType().toTaggedValue(tag, parser));
+            }
+            OvsdbSet<Object> result = OvsdbSet.of();
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                result = elementsFromJson(parser);
+                parser.nextToken();
+            }
+            BaseType.skipToEndOfArray(parser);
+            return result;
+        }
+
+        /**
+         * Reads the elements of the array the parser is at, up to its end, allocating no list for fewer than two.
+         */
+        private OvsdbSet<Object> elementsFromJson(JsonParser parser) throws IOException {
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                return OvsdbSet.of();
+            }
+            Object first = getBaseType().toValue(parser);
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                return OvsdbSet.of(first);
+            }
+            List<Object> result = new ArrayList<>();
+            result.add(first);
+            do {
+                result.add(getBaseType().toValue(parser));
+            } while (parser.nextToken() != JsonToken.END_ARRAY);
+            return OvsdbSet.copyOf(result);
+        }
+
         @Override
         public void validate(Object value) {
             this.baseType.validate(value);
@@ -271,15 +334,24 @@ public abstract class ColumnType {
         public Object valueFromJson(JsonNode node) {
             if (node.isArray() && node.size() == 2) {
                 if (node.get(0).isTextual() && "map".equals(node.get(0).asText())) {
-                    OvsdbMap<Object, Object> map = new OvsdbMap<>();
-                    for (JsonNode pairNode : node.get(1)) {
+                    JsonNode pairs = node.get(1);
+                    if (pairs.size() == 0) {
+                        return OvsdbMap.of();
+                    }
+                    if (pairs.size() == 1) {
+                        JsonNode pairNode = pairs.iterator().next();
+                        return pairNode.isArray() ? OvsdbMap.of(getKeyType().toValue(pairNode.get(0)),
+                                getBaseType().toValue(pairNode.get(1))) : OvsdbMap.of();
+                    }
+                    List<Object> keys = new ArrayList<>(pairs.size());
+                    List<Object> values = new ArrayList<>(pairs.size());
+                    for (JsonNode pairNode : pairs) {
                         if (pairNode.isArray() && node.size() == 2) {
-                            Object key = getKeyType().toValue(pairNode.get(0));
-                            Object value = getBaseType().toValue(pairNode.get(1));
-                            map.put(key, value);
+                            keys.add(getKeyType().toValue(pairNode.get(0)));
+                            values.add(getBaseType().toValue(pairNode.get(1)));
                         }
                     }
-                    return map;
+                    return OvsdbMap.copyOf(keys, values);
                 } else if (node.size() == 0) {
                     return null;
                 }
@@ -287,6 +359,70 @@ public abstract class ColumnType {
             return null;
         }
 
+        @Override
+        public Object valueFromJson(JsonParser parser) throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                return null;
+            }
+            if (parser.nextToken() != JsonToken.VALUE_STRING || !"map".equals(parser.getText())) {
+                BaseType.skipToEndOfArray(parser);
+                return null;
+            }
+            OvsdbMap<Object, Object> result = OvsdbMap.of();
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                result = entriesFromJson(parser);
+                parser.nextToken();
+            }
+            BaseType.skipToEndOfArray(parser);
+            return result;
+        }
+
+        /**
+         * Reads the pairs of the array the parser is at, up to its end, allocating no lists for fewer than two.
+         */
+        private OvsdbMap<Object, Object> entriesFromJson(JsonParser parser) throws IOException {
+            Object firstKey = null;
+            Object firstValue = null;
+            List<Object> keys = null;
+            List<Object> values = null;
+            int size = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                parser.nextToken();
+                Object key = getKeyType().toValue(parser);
+                parser.nextToken();
+                Object value = getBaseType().toValue(parser);
+                parser.nextToken();
+                BaseType.skipToEndOfArray(parser);
+                if (size == 0) {
+                    firstKey = key;
+                    firstValue = value;
+                } else {
+                    if (keys == null) {
+                        keys = new ArrayList<>();
+                        values = new ArrayList<>();
+                        keys.add(firstKey);
+                        values.add(firstValue);
+                    }
+                    keys.add(key);
+                    values.add(value);
+                }
+                size++;
+            }
+            switch (size) {
+                case 0:
+                    return OvsdbMap.of();
+                case 1:
+                    return OvsdbMap.of(firstKey, firstValue);
+                default:
+                    return OvsdbMap.copyOf(keys, values);
+            }
+        }
+
         @Override
         public void validate(Object value) {
             this.baseType.validate(value);
@@ -28,7 +28,7 @@ public class GenericTableSchema extends TableSchema<GenericTableSchema> {
     }
 
     public GenericTableSchema(TableSchema tableSchema) {
-        super(tableSchema.getName(), tableSchema.getColumnSchemas());
+        super(tableSchema);
     }
 
     public GenericTableSchema fromJson(String tableName, JsonNode json) {
@@ -37,11 +37,14 @@ public class GenericTableSchema extends TableSchema<GenericTableSchema> {
             throw new BadSchemaException("bad tableschema root, expected \"columns\" as child");
         }
 
+        StringInterner interner = StringInterner.getInstance();
         Map<String, ColumnSchema> columns = new HashMap<>();
         for (Iterator<Map.Entry<String, JsonNode>> iter = json.get("columns").fields(); iter.hasNext(); ) {
             Map.Entry<String, JsonNode> column = iter.next();
             LOG.trace("{}:{}", tableName, column.getKey());
-            columns.put(column.getKey(), ColumnSchema.fromJson(column.getKey(), column.getValue()));
+            ColumnSchema columnSchema = ColumnSchema.fromJson(column.getKey(), column.getValue());
+            interner.apply(tableName, columnSchema);
+            columns.put(column.getKey(), columnSchema);
         }
 
         this.setName(tableName);
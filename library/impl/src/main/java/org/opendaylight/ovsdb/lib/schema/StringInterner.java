@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.schema;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Collection;
+import java.util.Set;
+import org.opendaylight.ovsdb.lib.schema.BaseType.StringBaseType;
+import org.opendaylight.ovsdb.lib.schema.ColumnType.KeyValuedColumnType;
+
+/**
+ * Pool of the strings decoded from the rows, so that the values repeated across rows, such as the keys of the
+ * external_ids maps or the type of the interfaces, share one instance.
+ *
+ * <p>The pool is a fixed size table indexed by the hash of the strings, a new string replacing the one it collides
+ * with: its size bounds the memory it retains, and a lookup is a single probe. The string of a value found in the
+ * pool is not built at all when the value is decoded from the parser buffer.
+ *
+ * <p>Which strings are pooled is decided per column, when the schema is read. The keys of the maps and the values
+ * of the enumerated string columns always are, since they come from a small vocabulary. The values of the columns
+ * configured, by column name or as table.column, are too.
+ */
+public final class StringInterner {
+
+    private static final int MAX_LENGTH = 1024;
+
+    private static volatile StringInterner instance =
+            new StringInterner(65536, ImmutableSet.of("type", "external_ids"));
+
+    // racy by design, strings are safely published and a lost update only costs a duplicate
+    private final String[] pool;
+    private final Set<String> columns;
+
+    private StringInterner(int poolSize, Collection<String> columns) {
+        this.pool = poolSize > 0 ? new String[Integer.highestOneBit(poolSize)] : null;
+        this.columns = ImmutableSet.copyOf(columns);
+    }
+
+    /**
+     * Configures the pool used by the schemas read from now on.
+     *
+     * @param poolSize the number of strings pooled at most, rounded down to a power of 2, 0 to disable pooling
+     * @param columns the columns whose values are pooled, by name or as table.column
+     */
+    public static void configure(int poolSize, Collection<String> columns) {
+        instance = new StringInterner(poolSize, columns);
+    }
+
+    static StringInterner getInstance() {
+        return instance;
+    }
+
+    /**
+     * Makes the base types of the column pool the strings they decode, if they should.
+     */
+    void apply(String tableName, ColumnSchema<?, ?> column) {
+        if (pool == null) {
+            return;
+        }
+        ColumnType type = column.getType();
+        if (type instanceof KeyValuedColumnType) {
+            apply(((KeyValuedColumnType) type).getKeyType(), true);
+        }
+        apply(type.getBaseType(), columns.contains(column.getName())
+                || columns.contains(tableName + "." + column.getName()));
+    }
+
+    private void apply(BaseType<?> baseType, boolean configured) {
+        if (baseType instanceof StringBaseType) {
+            StringBaseType stringType = (StringBaseType) baseType;
+            if (configured || stringType.getEnums() != null) {
+                stringType.setInterner(this);
+            }
+        }
+    }
+
+    /**
+     * Returns the pooled instance equal to the string, pooling it if there is none.
+     */
+    public String intern(String value) {
+        if (value.length() > MAX_LENGTH) {
+            return value;
+        }
+        int index = index(value.hashCode());
+        String pooled = pool[index];
+        if (value.equals(pooled)) {
+            return pooled;
+        }
+        pool[index] = value;
+        return value;
+    }
+
+    /**
+     * Returns the pooled instance equal to the characters, pooling a new string if there is none.
+     */
+    public String intern(char[] chars, int offset, int length) {
+        if (length > MAX_LENGTH) {
+            return new String(chars, offset, length);
+        }
+        // the hash of the string, String.hashCode()
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int index = index(hash);
+        String pooled = pool[index];
+        if (pooled != null && matches(pooled, chars, offset, length)) {
+            return pooled;
+        }
+        String value = new String(chars, offset, length);
+        pool[index] = value;
+        return value;
+    }
+
+    private int index(int hash) {
+        return (hash ^ hash >>> 16) & pool.length - 1;
+    }
+
+    private static boolean matches(String pooled, char[] chars, int offset, int length) {
+        if (pooled.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (pooled.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -8,11 +8,16 @@
 
 package org.opendaylight.ovsdb.lib.schema;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +36,7 @@ public abstract class TableSchema<E extends TableSchema<E>> {
 
     private String name;
     private Map<String, ColumnSchema> columns;
+    private ColumnOrdinals ordinals = new ColumnOrdinals();
 
     public TableSchema() {
     }
@@ -44,6 +50,16 @@ public abstract class TableSchema<E extends TableSchema<E>> {
         this.columns = columns;
     }
 
+    /**
+     * Creates a view of the given table schema, sharing its columns and their ordinals, so that the rows of either
+     * can be read with the other.
+     */
+    protected TableSchema(TableSchema<?> tableSchema) {
+        this.name = tableSchema.getName();
+        this.columns = tableSchema.getColumnSchemas();
+        this.ordinals = tableSchema.ordinals;
+    }
+
     public Set<String> getColumns() {
         return this.columns.keySet();
     }
@@ -105,6 +121,38 @@ public abstract class TableSchema<E extends TableSchema<E>> {
         return this.columns.get(column);
     }
 
+    /**
+     * Returns the ordinal of the column, its index in the compact storage of the rows of this table. Ordinals are
+     * assigned on first use and never change, columns added to the schema later get the next ones.
+     *
+     * @param column the name of the column
+     * @return the ordinal of the column, or -1 if the table has no such column
+     */
+    public int columnOrdinal(String column) {
+        int ordinal = ordinals.get(column);
+        if (ordinal < 0 && columns != null && columns.containsKey(column)) {
+            ordinal = ordinals.assign(columns, column);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Returns the schema of the column with the given ordinal.
+     *
+     * @param ordinal an ordinal returned by {@link #columnOrdinal(String)}
+     */
+    public ColumnSchema columnAt(int ordinal) {
+        return ordinals.columnAt(ordinal);
+    }
+
+    /**
+     * Returns the number of ordinals assigned so far, an upper bound of the ordinals returned until new columns
+     * are looked up.
+     */
+    public int getColumnOrdinalCount() {
+        return ordinals.count();
+    }
+
 
     public String getName() {
         return name;
@@ -116,6 +164,7 @@ public abstract class TableSchema<E extends TableSchema<E>> {
 
     protected void setColumns(Map<String, ColumnSchema> columns) {
         this.columns = columns;
+        this.ordinals = new ColumnOrdinals();
     }
 
     public TableUpdate<E> updatesFromJson(JsonNode value) {
@@ -136,6 +185,70 @@ public abstract class TableSchema<E extends TableSchema<E>> {
         return tableUpdate;
     }
 
+    /**
+     * Streaming counterpart of {@link #updatesFromJson(JsonNode)}, binding the row updates directly from
+     * the token stream. The parser must be positioned on the start of the table-update object; on return
+     * it is positioned on its end.
+     */
+    public TableUpdate<E> updatesFromJson(JsonParser parser) throws IOException {
+        TableUpdate<E> tableUpdate = new TableUpdate<>();
+        while (rowUpdateFromJson(parser, tableUpdate)) {
+            // keep reading
+        }
+        return tableUpdate;
+    }
+
+    /**
+     * Reads the next row update of a table-update object and adds it to the given TableUpdate.
+     * This allows a caller to hand over the rows of a large table-update in several parts.
+     *
+     * @return false once the end of the table-update object has been reached
+     */
+    public boolean rowUpdateFromJson(JsonParser parser, TableUpdate<E> tableUpdate) throws IOException {
+        if (parser.nextToken() != JsonToken.FIELD_NAME) {
+            return false;
+        }
+        String uuid = parser.getCurrentName();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return true;
+        }
+
+        Row<E> newRow = null;
+        Row<E> oldRow = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String rowName = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+            } else if ("new".equals(rowName)) {
+                newRow = createRow(parser);
+            } else if ("old".equals(rowName)) {
+                oldRow = createRow(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        tableUpdate.addRow(new UUID(uuid), oldRow, newRow);
+        return true;
+    }
+
+    public Row<E> createRow(JsonParser parser) throws IOException {
+        List<Column<E, ?>> newColumns = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            ColumnSchema<E, Object> schema = column(parser.getCurrentName(), Object.class);
+            parser.nextToken();
+            // Hidden columns not reported in getSchema are skipped, see createRow(ObjectNode)
+            if (schema != null) {
+                Object value = schema.valueFromJson(parser);
+                newColumns.add(new Column<>(schema, value));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Row<>(this, newColumns);
+    }
+
     public Row<E> createRow(ObjectNode rowNode) {
         List<Column<E, ?>> newColumns = new ArrayList<>();
         for (Iterator<Map.Entry<String, JsonNode>> iter = rowNode.fields(); iter.hasNext();) {
@@ -178,4 +291,58 @@ public abstract class TableSchema<E extends TableSchema<E>> {
         columns.put("_uuid", new ColumnSchema("_uuid", new AtomicColumnType(new UuidBaseType())));
         columns.put("_version", new ColumnSchema("_version", new AtomicColumnType(new UuidBaseType())));
     }
+
+    /**
+     * Ordinals of the columns of a table, shared by the views of the table. Lookups are lock free, assignments copy
+     * the current state.
+     */
+    private static final class ColumnOrdinals {
+        private volatile Snapshot snapshot = new Snapshot(new HashMap<>(), new ColumnSchema[0]);
+
+        int get(String column) {
+            Integer ordinal = snapshot.ordinals.get(column);
+            return ordinal == null ? -1 : ordinal;
+        }
+
+        ColumnSchema columnAt(int ordinal) {
+            return snapshot.columns[ordinal];
+        }
+
+        int count() {
+            return snapshot.columns.length;
+        }
+
+        synchronized int assign(Map<String, ColumnSchema> tableColumns, String column) {
+            Snapshot current = snapshot;
+            Integer ordinal = current.ordinals.get(column);
+            if (ordinal != null) {
+                return ordinal;
+            }
+            // assign all the known columns at once, rather than one copy per column
+            Map<String, Integer> newOrdinals = new HashMap<>(current.ordinals);
+            List<ColumnSchema> added = new ArrayList<>();
+            for (Map.Entry<String, ColumnSchema> entry : tableColumns.entrySet()) {
+                if (!newOrdinals.containsKey(entry.getKey())) {
+                    newOrdinals.put(entry.getKey(), current.columns.length + added.size());
+                    added.add(entry.getValue());
+                }
+            }
+            ColumnSchema[] newColumns = Arrays.copyOf(current.columns, current.columns.length + added.size());
+            for (int i = 0; i < added.size(); i++) {
+                newColumns[current.columns.length + i] = added.get(i);
+            }
+            snapshot = new Snapshot(newOrdinals, newColumns);
+            return newOrdinals.get(column);
+        }
+
+        private static final class Snapshot {
+            final Map<String, Integer> ordinals;
+            final ColumnSchema[] columns;
+
+            Snapshot(Map<String, Integer> ordinals, ColumnSchema[] columns) {
+                this.ordinals = ordinals;
+                this.columns = columns;
+            }
+        }
+    }
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.ovsdb.lib.schema.typed;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.opendaylight.ovsdb.lib.error.ColumnSchemaNotFoundException;
+import org.opendaylight.ovsdb.lib.error.TableSchemaNotFoundException;
+import org.opendaylight.ovsdb.lib.error.TyperException;
+import org.opendaylight.ovsdb.lib.error.UnsupportedMethodException;
+import org.opendaylight.ovsdb.lib.notation.Column;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.notation.Version;
+import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+/**
+ * Accessors of the typed rows of a table in a database schema. Each method of the typed interface is resolved
+ * against the schema, its column looked up and its version checked, on its first call; the typed rows of the table
+ * then dispatch their calls to the resolved accessor.
+ *
+ * <p>The accessors are cached per database schema, for as long as the schema is in use.
+ */
+final class TypedRowAccessors<T> {
+
+    // weak keys are compared by identity; the accessors do not reference the schema, which can be collected
+    private static final LoadingCache<DatabaseSchema, ConcurrentMap<Class<?>, TypedRowAccessors<?>>> CACHE =
+            CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(dbSchema -> new ConcurrentHashMap<>()));
+
+    private final Class<T> klazz;
+    private final String databaseName;
+    private final Version schemaVersion;
+    private final boolean validDatabase;
+    private final GenericTableSchema tableSchema;
+    private final Constructor<?> proxyConstructor;
+    private final ConcurrentMap<Method, Accessor> accessors = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    private interface Accessor {
+        Object invoke(Handler handler, Object proxy, Object[] args);
+    }
+
+    private TypedRowAccessors(DatabaseSchema dbSchema, Class<T> klazz) {
+        this.klazz = klazz;
+        this.databaseName = dbSchema.getName();
+        this.schemaVersion = dbSchema.getVersion();
+        TypedTable typedTable = klazz.getAnnotation(TypedTable.class);
+        this.validDatabase = typedTable == null || databaseName.equalsIgnoreCase(typedTable.database());
+        if (validDatabase) {
+            Preconditions.checkArgument(klazz.isInterface(), "%s is not an interface", klazz);
+            this.tableSchema = TyperUtils.getTableSchema(dbSchema, klazz);
+            try {
+                this.proxyConstructor = Proxy.getProxyClass(klazz.getClassLoader(), klazz)
+                        .getConstructor(InvocationHandler.class);
+            } catch (NoSuchMethodException e) {
+                throw new TyperException("Unable to create typed rows of " + klazz, e);
+            }
+        } else {
+            this.tableSchema = null;
+            this.proxyConstructor = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> TypedRowAccessors<T> get(DatabaseSchema dbSchema, Class<T> klazz) {
+        ConcurrentMap<Class<?>, TypedRowAccessors<?>> tables = CACHE.getUnchecked(dbSchema);
+        TypedRowAccessors<?> accessors = tables.get(klazz);
+        if (accessors == null) {
+            accessors = tables.computeIfAbsent(klazz, key -> new TypedRowAccessors<>(dbSchema, key));
+        }
+        return (TypedRowAccessors<T>) accessors;
+    }
+
+    /**
+     * Returns a typed row wrapping the row, or null if the table does not belong to the database.
+     */
+    T newRowWrapper(Row<GenericTableSchema> row) {
+        if (!validDatabase) {
+            return null;
+        }
+        TyperUtils.checkVersion(schemaVersion, TyperUtils.getTableFromVersion(klazz),
+                TyperUtils.getTableUntilVersion(klazz));
+        if (row != null) {
+            row.setTableSchema(tableSchema);
+        }
+        try {
+            return klazz.cast(proxyConstructor.newInstance(new Handler(this, row)));
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new TyperException("Unable to create a typed row of " + klazz, e);
+        }
+    }
+
+    private Accessor getAccessor(Method method) {
+        Accessor accessor = accessors.get(method);
+        if (accessor == null) {
+            // failed resolutions are not cached, they fail again on the next call
+            accessor = accessors.computeIfAbsent(method, this::resolve);
+        }
+        return accessor;
+    }
+
+    private Accessor resolve(Method method) {
+        if (TyperUtils.isGetTableSchema(method)) {
+            return (handler, proxy, args) -> tableSchema;
+        } else if (TyperUtils.isGetRow(method)) {
+            return (handler, proxy, args) -> handler.row;
+        } else if (TyperUtils.isSetData(method)) {
+            return resolveSetData(method);
+        } else if (TyperUtils.isGetData(method)) {
+            ColumnSchema<GenericTableSchema, Object> columnSchema = resolveColumn(method, "Getter");
+            return (handler, proxy, args) -> {
+                Column<GenericTableSchema, Object> column =
+                        handler.row == null ? null : handler.row.getColumn(columnSchema);
+                return column == null ? null : column.getData();
+            };
+        } else if (TyperUtils.isGetColumn(method)) {
+            ColumnSchema<GenericTableSchema, Object> columnSchema = resolveColumn(method, "GetColumn");
+            // When the row is null, that might indicate that the user maybe interested
+            // only in the ColumnSchema and not on the Data.
+            return (handler, proxy, args) ->
+                    handler.row == null ? new Column<>(columnSchema, null) : handler.row.getColumn(columnSchema);
+        } else if (isObjectMethod(method, "hashCode")) {
+            return (handler, proxy, args) -> handler.hashCode();
+        } else if (isObjectMethod(method, "equals", Object.class)) {
+            return (handler, proxy, args) -> proxy.getClass().isInstance(args[0]) && handler.equals(args[0]);
+        } else if (isObjectMethod(method, "toString")) {
+            return (handler, proxy, args) -> handler.toString();
+        }
+        return (handler, proxy, args) -> {
+            throw new UnsupportedMethodException("Method not supported " + method.toString());
+        };
+    }
+
+    private Accessor resolveSetData(Method method) {
+        checkColumnVersion(method);
+        String columnName = TyperUtils.getColumnName(method);
+        if (columnName == null) {
+            throw new TyperException("Unable to locate Column Name for " + method.getName());
+        }
+        ColumnSchema<GenericTableSchema, Object> columnSchema =
+                TyperUtils.getColumnSchema(tableSchema, columnName, Object.class);
+        return (handler, proxy, args) -> {
+            if (args == null || args.length != 1) {
+                throw new TyperException("Setter method : " + method.getName() + " requires 1 argument");
+            }
+            handler.row.addColumn(columnName, new Column<>(columnSchema, args[0]));
+            return proxy;
+        };
+    }
+
+    private ColumnSchema<GenericTableSchema, Object> resolveColumn(Method method, String kind) {
+        String columnName = TyperUtils.getColumnName(method);
+        checkColumnVersion(method);
+        if (columnName == null) {
+            throw new TyperException("Error processing " + kind + " : " + method.getName());
+        }
+        if (tableSchema == null) {
+            String message = TableSchemaNotFoundException.createMessage(TyperUtils.getTableName(klazz), databaseName);
+            throw new TableSchemaNotFoundException(message);
+        }
+        ColumnSchema<GenericTableSchema, Object> columnSchema =
+                TyperUtils.getColumnSchema(tableSchema, columnName, (Class<Object>) method.getReturnType());
+        if (columnSchema == null) {
+            String message = ColumnSchemaNotFoundException.createMessage(columnName, tableSchema.getName());
+            throw new ColumnSchemaNotFoundException(message);
+        }
+        return columnSchema;
+    }
+
+    private void checkColumnVersion(Method method) {
+        TyperUtils.checkVersion(schemaVersion, TyperUtils.getColumnFromVersion(method),
+                TyperUtils.getColumnUntilVersion(method));
+    }
+
+    private static boolean isObjectMethod(Method method, String name, Class<?>... parameterTypes) {
+        return method.getName().equals(name) && method.getParameterCount() == parameterTypes.length
+                && (parameterTypes.length == 0 || parameterTypes[0].equals(method.getParameterTypes()[0]));
+    }
+
+    /**
+     * Invocation handler of a typed row, a stateless wrapper on top of the untyped row.
+     */
+    private static final class Handler implements InvocationHandler {
+        private final TypedRowAccessors<?> accessors;
+        private final Row<GenericTableSchema> row;
+
+        Handler(TypedRowAccessors<?> accessors, Row<GenericTableSchema> row) {
+            this.accessors = accessors;
+            this.row = row;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            return accessors.getAccessor(method).invoke(this, proxy, args);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null) {
+                return false;
+            }
+            TypedBaseTable<?> typedRowObj = (TypedBaseTable<?>)obj;
+            if (row == null && typedRowObj.getRow() == null) {
+                return true;
+            }
+            if (row.equals(typedRowObj.getRow())) {
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            if (row == null) {
+                return 0;
+            }
+            return row.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            String tableName = accessors.tableSchema != null ? accessors.tableSchema.getName() : "";
+            if (row == null) {
+                return tableName;
+            }
+            return tableName + " : " + row.toString();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.ConnectionType;
+
+public class BacklogThrottleTest {
+
+    private int backlog;
+    private final BacklogThrottle throttle = new BacklogThrottle(10, 4, () -> backlog);
+
+    private OvsdbClient client() {
+        OvsdbClient client = mock(OvsdbClient.class);
+        when(client.getConnectionInfo()).thenReturn(
+                new OvsdbConnectionInfo(new EmbeddedChannel(), ConnectionType.PASSIVE));
+        return client;
+    }
+
+    /**
+     * Test that the sources submitting work are suspended once, from the high watermark on, and all resumed once
+     * the backlog is down to the low watermark, not before.
+     */
+    @Test
+    public void testWatermarks() {
+        OvsdbClient client1 = client();
+        OvsdbClient client2 = client();
+        OvsdbClient idle = client();
+
+        backlog = 9;
+        throttle.throttle(client1);
+        verify(client1, never()).suspendReading();
+        assertFalse(throttle.resumeIfDrained());
+
+        backlog = 10;
+        throttle.throttle(client1);
+        throttle.throttle(client1);
+        backlog = 12;
+        throttle.throttle(client2);
+        throttle.throttle(null);
+        verify(client1).suspendReading();
+        verify(client2).suspendReading();
+        verifyZeroInteractions(idle);
+        assertTrue(throttle.hasSuspendedSources());
+
+        // between the watermarks the sources stay suspended
+        backlog = 5;
+        assertTrue(throttle.resumeIfDrained());
+        verify(client1, never()).resumeReading();
+
+        backlog = 4;
+        assertFalse(throttle.resumeIfDrained());
+        verify(client1).resumeReading();
+        verify(client2).resumeReading();
+        assertFalse(throttle.hasSuspendedSources());
+        assertFalse(throttle.resumeIfDrained());
+        verify(client1).resumeReading();
+
+        // suspended again when crossing the high watermark again
+        backlog = 10;
+        throttle.throttle(client2);
+        verify(client2, times(2)).suspendReading();
+        assertEquals(20, throttle.getMaxBacklog());
+    }
+
+    /**
+     * Test that a backlog past the expected maximum is reported, the work is never refused.
+     */
+    @Test
+    public void testOverflow() {
+        backlog = 20;
+        assertFalse(throttle.checkOverflow());
+        backlog = 21;
+        assertTrue(throttle.checkOverflow());
+        assertTrue(throttle.checkOverflow());
+        backlog = 3;
+        assertFalse(throttle.checkOverflow());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWatermarks() {
+        new BacklogThrottle(10, 11, () -> 0);
+    }
+}
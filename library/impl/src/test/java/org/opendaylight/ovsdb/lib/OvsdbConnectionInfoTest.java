@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib;
+
+import static org.junit.Assert.assertEquals;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.ConnectionType;
+
+public class OvsdbConnectionInfoTest {
+
+    /**
+     * Test that the addresses and ports of a socket connection are those of the channel.
+     */
+    @Test
+    public void testInetAddresses() throws Exception {
+        InetAddress remoteAddress = InetAddress.getByName("10.0.0.1");
+        InetAddress localAddress = InetAddress.getByName("10.0.0.2");
+        EmbeddedChannel channel = new EmbeddedChannel() {
+            @Override
+            protected SocketAddress remoteAddress0() {
+                return new InetSocketAddress(remoteAddress, 6640);
+            }
+
+            @Override
+            protected SocketAddress localAddress0() {
+                return new InetSocketAddress(localAddress, 38000);
+            }
+        };
+        OvsdbConnectionInfo connectionInfo = new OvsdbConnectionInfo(channel, ConnectionType.ACTIVE);
+        assertEquals(remoteAddress, connectionInfo.getRemoteAddress());
+        assertEquals(6640, connectionInfo.getRemotePort());
+        assertEquals(localAddress, connectionInfo.getLocalAddress());
+        assertEquals(38000, connectionInfo.getLocalPort());
+    }
+
+    /**
+     * Test that a connection without socket addresses, such as a unix domain socket one, is reported from the
+     * loopback address and port 0.
+     */
+    @Test
+    public void testNonInetAddresses() {
+        OvsdbConnectionInfo connectionInfo = new OvsdbConnectionInfo(new EmbeddedChannel(), ConnectionType.ACTIVE);
+        assertEquals(InetAddress.getLoopbackAddress(), connectionInfo.getRemoteAddress());
+        assertEquals(0, connectionInfo.getRemotePort());
+        assertEquals(InetAddress.getLoopbackAddress(), connectionInfo.getLocalAddress());
+        assertEquals(0, connectionInfo.getLocalPort());
+        assertEquals(ConnectionType.ACTIVE, connectionInfo.getType());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.base.Ticker;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Test;
+
+public class ConnectionAdmissionTest {
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicLong nanos = new AtomicLong();
+    private final ConnectionAdmission admission = new ConnectionAdmission(executor, new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    });
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Test that connections wait while too many are bootstrapping, and are admitted in order as the others
+     * complete or close.
+     */
+    @Test
+    public void testMaxBootstrapping() throws Exception {
+        admission.configure(0, 0, 1, TimeUnit.MINUTES.toMillis(1));
+        EmbeddedChannel first = new EmbeddedChannel();
+        EmbeddedChannel second = new EmbeddedChannel();
+        EmbeddedChannel third = new EmbeddedChannel();
+        CountDownLatch firstAdmitted = new CountDownLatch(1);
+        CountDownLatch secondAdmitted = new CountDownLatch(1);
+        CountDownLatch thirdAdmitted = new CountDownLatch(1);
+
+        admission.admit(first, firstAdmitted::countDown);
+        admission.admit(second, secondAdmitted::countDown);
+        admission.admit(third, thirdAdmitted::countDown);
+        assertTrue(firstAdmitted.await(1, TimeUnit.SECONDS));
+        assertFalse(secondAdmitted.await(50, TimeUnit.MILLISECONDS));
+        assertEquals(2, admission.getQueueDepth());
+
+        ConnectionAdmission.release(first);
+        assertTrue(secondAdmitted.await(1, TimeUnit.SECONDS));
+        assertEquals(1, admission.getBootstrapping());
+
+        second.close();
+        assertTrue(thirdAdmitted.await(1, TimeUnit.SECONDS));
+        assertEquals(0, admission.getQueueDepth());
+    }
+
+    /**
+     * Test that connections are admitted at the configured rate once the burst is used up, as time passes.
+     */
+    @Test
+    public void testRate() throws Exception {
+        admission.configure(20, 2, 0, 0);
+        CountDownLatch burst = new CountDownLatch(2);
+        CountDownLatch third = new CountDownLatch(3);
+        CountDownLatch fourth = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            admission.admit(new EmbeddedChannel(), () -> {
+                burst.countDown();
+                third.countDown();
+                fourth.countDown();
+            });
+        }
+        // two in the burst, then one every 50ms
+        assertTrue(burst.await(5, TimeUnit.SECONDS));
+        assertEquals(2, admission.getQueueDepth());
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(third.await(5, TimeUnit.SECONDS));
+        assertEquals(1, admission.getQueueDepth());
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(fourth.await(5, TimeUnit.SECONDS));
+        assertEquals(0, admission.getQueueDepth());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo;
+import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.ConnectionType;
+
+public class ConnectionRegistryTest {
+
+    private final ConnectionRegistry registry = new ConnectionRegistry();
+
+    /**
+     * Returns a channel connected from the given address.
+     */
+    static Channel channelFrom(String address) {
+        return new EmbeddedChannel() {
+            @Override
+            protected SocketAddress remoteAddress0() {
+                try {
+                    return new InetSocketAddress(InetAddress.getByName(address), 6640);
+                } catch (UnknownHostException e) {
+                    throw new IllegalArgumentException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a client of the channel, only answering its connection info.
+     */
+    static OvsdbClient client(Channel channel, ConnectionType type) {
+        OvsdbClient client = mock(OvsdbClient.class);
+        when(client.getConnectionInfo()).thenReturn(new OvsdbConnectionInfo(channel, type));
+        return client;
+    }
+
+    /**
+     * Test the lookups by client and by channel, before and after the client is removed.
+     */
+    @Test
+    public void testLookups() {
+        Channel channel = channelFrom("10.0.0.1");
+        OvsdbClient client = client(channel, ConnectionType.PASSIVE);
+        registry.add(client, channel);
+
+        assertSame(channel, registry.getChannel(client));
+        assertSame(client, registry.getClient(channel));
+        assertEquals(Collections.singleton(client), registry.getClients());
+        assertNull(registry.getClient(null));
+
+        assertTrue(registry.remove(client));
+        assertFalse(registry.remove(client));
+        assertNull(registry.getChannel(client));
+        assertNull(registry.getClient(channel));
+        assertTrue(registry.getClients().isEmpty());
+    }
+
+    /**
+     * Test that the clients from the same node are looked up by remote address and type, and that a client added
+     * again is only indexed by its new channel.
+     */
+    @Test
+    public void testClientsFromSameNode() {
+        Channel channel1 = channelFrom("10.0.0.1");
+        Channel channel2 = channelFrom("10.0.0.1");
+        Channel channel3 = channelFrom("10.0.0.1");
+        Channel other = channelFrom("10.0.0.2");
+        OvsdbClient client1 = client(channel1, ConnectionType.PASSIVE);
+        OvsdbClient client2 = client(channel2, ConnectionType.PASSIVE);
+        OvsdbClient active = client(channel3, ConnectionType.ACTIVE);
+        OvsdbClient otherNode = client(other, ConnectionType.PASSIVE);
+        registry.add(client1, channel1);
+        registry.add(client2, channel2);
+        registry.add(active, channel3);
+        registry.add(otherNode, other);
+
+        assertEquals(Collections.singletonList(client2),
+                registry.getClientsFromSameNode(client1, ConnectionType.PASSIVE));
+        assertEquals(Arrays.asList(client1, client2),
+                registry.getClientsFromSameNode(active, ConnectionType.PASSIVE));
+        assertEquals(Collections.singletonList(active),
+                registry.getClientsFromSameNode(client1, ConnectionType.ACTIVE));
+        assertTrue(registry.getClientsFromSameNode(otherNode, ConnectionType.PASSIVE).isEmpty());
+
+        Channel channel4 = channelFrom("10.0.0.1");
+        registry.add(client2, channel4);
+        assertNull(registry.getClient(channel2));
+        assertSame(client2, registry.getClient(channel4));
+        assertEquals(Collections.singletonList(client2),
+                registry.getClientsFromSameNode(client1, ConnectionType.PASSIVE));
+
+        registry.remove(client2);
+        assertTrue(registry.getClientsFromSameNode(client1, ConnectionType.PASSIVE).isEmpty());
+        // a client no longer registered is looked up by the address of its connection
+        assertEquals(Collections.singletonList(client1),
+                registry.getClientsFromSameNode(client2, ConnectionType.PASSIVE));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.Futures;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.EchoServiceCallbackFilters;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+
+public class EchoServiceTest {
+
+    private static final long INTERVAL_MILLIS = 100;
+
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+    private final AtomicInteger echoes = new AtomicInteger();
+    private final AtomicInteger successes = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private volatile boolean answerEchoes = true;
+
+    private final EchoServiceCallbackFilters callbackFilters = new EchoServiceCallbackFilters() {
+        @Override
+        public void echoSucceeded(long roundTripMillis) {
+            successes.incrementAndGet();
+        }
+
+        @Override
+        public void echoMissed(int consecutiveMisses) {
+            misses.set(consecutiveMisses);
+        }
+    };
+
+    private final OvsdbClient client = mock(OvsdbClient.class);
+
+    private final EchoService echoService = new EchoService(client, channel, callbackFilters, INTERVAL_MILLIS);
+
+    @Before
+    public void setUp() {
+        when(client.echo(anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            echoes.incrementAndGet();
+            return answerEchoes ? Futures.immediateFuture(Collections.emptyList())
+                    : Futures.immediateFailedFuture(new TimeoutException());
+        });
+    }
+
+    /**
+     * Test that an idle connection is probed, and that the fixed liveness handlers are replaced while the service
+     * runs.
+     */
+    @Test
+    public void testIdleProbes() throws Exception {
+        OvsdbConnectionService.addIdleHandlers(channel.pipeline());
+        echoService.start();
+        runUntil(() -> successes.get() >= 2, 5000);
+        assertTrue(echoes.get() >= 2);
+        assertEquals(echoes.get(), successes.get());
+        assertNull(channel.pipeline().get(ReadTimeoutHandler.class));
+
+        echoService.stop();
+        channel.runPendingTasks();
+        assertNotNull(channel.pipeline().get(ReadTimeoutHandler.class));
+        int sent = echoes.get();
+        runFor(250);
+        assertEquals(sent, echoes.get());
+    }
+
+    /**
+     * Test that no probe is sent while data flows.
+     */
+    @Test
+    public void testNoProbeWhileReading() throws Exception {
+        echoService.start();
+        for (int i = 0; i < 10; i++) {
+            channel.writeInbound(Unpooled.EMPTY_BUFFER);
+            runFor(30);
+        }
+        assertEquals(0, echoes.get());
+    }
+
+    /**
+     * Test that a silent peer is disconnected after the maximum number of missed probes.
+     */
+    @Test
+    public void testMissedProbes() throws Exception {
+        answerEchoes = false;
+        echoService.start();
+        runUntil(() -> !channel.isOpen(), 5000);
+        assertEquals(callbackFilters.getMaxMissedEchoes(), echoes.get());
+        assertEquals(callbackFilters.getMaxMissedEchoes(), misses.get());
+        assertFalse(channel.isOpen());
+    }
+
+    /**
+     * Test that a silent peer is neither probed nor disconnected while reading from it is suspended, and that the
+     * fixed read timeout does not expire then either.
+     */
+    @Test
+    public void testNoProbeWhileSuspended() throws Exception {
+        answerEchoes = false;
+        echoService.start();
+        channel.config().setAutoRead(false);
+        runFor(5 * INTERVAL_MILLIS);
+        assertEquals(0, echoes.get());
+        assertTrue(channel.isOpen());
+
+        channel.config().setAutoRead(true);
+        runUntil(() -> !channel.isOpen(), 5000);
+        assertEquals(callbackFilters.getMaxMissedEchoes(), echoes.get());
+    }
+
+    /**
+     * Test that the read timeout does not expire while reading is suspended, and gives the peer a whole timeout
+     * once reading resumes.
+     */
+    @Test
+    public void testReadTimeoutWhileSuspended() throws Exception {
+        EmbeddedChannel timedChannel = new EmbeddedChannel(
+                new SuspendAwareReadTimeoutHandler(INTERVAL_MILLIS, TimeUnit.MILLISECONDS));
+        timedChannel.config().setAutoRead(false);
+        Thread.sleep(2 * INTERVAL_MILLIS);
+        timedChannel.runScheduledPendingTasks();
+        assertTrue(timedChannel.isOpen());
+
+        timedChannel.config().setAutoRead(true);
+        Thread.sleep(INTERVAL_MILLIS + 10);
+        timedChannel.runScheduledPendingTasks();
+        assertTrue(timedChannel.isOpen());
+        Thread.sleep(INTERVAL_MILLIS + 10);
+        timedChannel.runScheduledPendingTasks();
+        assertFalse(timedChannel.isOpen());
+    }
+
+    private void runUntil(BooleanSupplier condition, long maxMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + maxMillis;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            runFor(10);
+        }
+    }
+
+    private void runFor(long millis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + millis;
+        while (System.currentTimeMillis() < deadline) {
+            channel.runPendingTasks();
+            channel.runScheduledPendingTasks();
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.reflect.Reflection;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.MonitorCallBack;
+import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.ConnectionType;
+import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.SocketConnectionType;
+import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpcResultReader;
+import org.opendaylight.ovsdb.lib.jsonrpc.Params;
+import org.opendaylight.ovsdb.lib.message.MonitorRequestBuilder;
+import org.opendaylight.ovsdb.lib.message.OvsdbRPC;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
+import org.opendaylight.ovsdb.lib.message.TableUpdates;
+import org.opendaylight.ovsdb.lib.message.UpdateNotification;
+import org.opendaylight.ovsdb.lib.notation.UUID;
+import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+public class OvsdbClientImplTest {
+
+    private static final String SCHEMA = "{\"version\":\"7.6.1\",\"tables\":{\"Bridge\":{\"columns\":"
+            + "{\"name\":{\"type\":\"string\"}}}}}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<Params> monitorParams = new ArrayList<>();
+    private final List<SettableFuture<?>> monitorReplies = new ArrayList<>();
+    private JsonRpcResultReader monitorReader;
+    private OvsdbRPC.Callback rpcCallback;
+    private DatabaseSchema dbSchema;
+    private OvsdbClientImpl client;
+
+    @Before
+    public void setUp() throws Exception {
+        dbSchema = DatabaseSchema.fromJson("Open_vSwitch", mapper.readTree(SCHEMA));
+        OvsdbRPC rpc = Reflection.newProxy(OvsdbRPC.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "registerCallback":
+                    rpcCallback = (OvsdbRPC.Callback) args[0];
+                    return true;
+                case "monitor":
+                    return monitor(proxy, (Params) args[0]);
+                case "monitorStreaming":
+                    monitorReader = (JsonRpcResultReader) args[1];
+                    return monitor(proxy, (Params) args[0]);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        client = new OvsdbClientImpl(rpc, new EmbeddedChannel(), ConnectionType.ACTIVE,
+                SocketConnectionType.NON_SSL);
+        // run the replies on the caller thread, with the schema already fetched
+        Field executorService = OvsdbClientImpl.class.getDeclaredField("executorService");
+        executorService.setAccessible(true);
+        executorService.set(client, MoreExecutors.newDirectExecutorService());
+        Field schemas = OvsdbClientImpl.class.getDeclaredField("schemas");
+        schemas.setAccessible(true);
+        ((Map<String, DatabaseSchema>) schemas.get(client)).put(dbSchema.getName(), dbSchema);
+    }
+
+    private SettableFuture<?> monitor(Object proxy, Params params) {
+        monitorParams.add(params);
+        SettableFuture<?> reply = SettableFuture.create();
+        monitorReplies.add(reply);
+        return reply;
+    }
+
+    private String monitorId(int index) {
+        return (String) monitorParams.get(index).params().get(1);
+    }
+
+    private void sendUpdate(String monitorId) throws IOException {
+        UpdateNotification notification = new UpdateNotification();
+        notification.setContext(monitorId);
+        notification.setUpdates(mapper.readTree("{\"Bridge\":{\"" + java.util.UUID.randomUUID()
+                + "\":{\"new\":{\"name\":\"br0\"}}}}"));
+        rpcCallback.update(null, notification);
+    }
+
+    /**
+     * Test that the callback of an asynchronous monitor receives the updates once the monitor is set up, and is
+     * unregistered when the monitor request fails.
+     */
+    @Test
+    public void testMonitorAsyncUnregistersOnFailure() throws IOException {
+        AtomicInteger updates = new AtomicInteger();
+        MonitorCallBack callback = new MonitorCallBack() {
+            @Override
+            public void update(TableUpdates result, DatabaseSchema schema) {
+                updates.incrementAndGet();
+            }
+
+            @Override
+            public void exception(Throwable throwable) {
+            }
+        };
+        GenericTableSchema bridge = dbSchema.table("Bridge", GenericTableSchema.class);
+
+        ListenableFuture<TableUpdates> failed = client.monitorAsync(dbSchema,
+                Collections.singletonList(new MonitorRequestBuilder<>(bridge).addColumn("name").build()), callback);
+        assertNotNull(rpcCallback);
+        monitorReplies.get(0).setException(new IOException("connection closed"));
+        assertTrue(failed.isDone());
+        sendUpdate(monitorId(0));
+        assertEquals(0, updates.get());
+
+        ListenableFuture<TableUpdates> cancelled = client.monitorAsync(dbSchema,
+                Collections.singletonList(new MonitorRequestBuilder<>(bridge).addColumn("name").build()), callback);
+        sendUpdate(monitorId(1));
+        assertEquals(1, updates.get());
+        cancelled.cancel(false);
+        sendUpdate(monitorId(1));
+        assertEquals(1, updates.get());
+    }
+
+    /**
+     * Test that the initial contents read by a chunked monitor reach the callback in chunks of at most rowsPerChunk
+     * rows of a single table, in order, and that the callback then receives the updates.
+     */
+    @Test
+    public void testMonitorInChunks() throws IOException {
+        GenericTableSchema bridge = dbSchema.table("Bridge", GenericTableSchema.class);
+        List<TableUpdate<GenericTableSchema>> chunks = new ArrayList<>();
+        MonitorCallBack callback = new MonitorCallBack() {
+            @Override
+            public void update(TableUpdates result, DatabaseSchema schema) {
+                assertEquals(Collections.singleton("Bridge"), result.getUpdates().keySet());
+                chunks.add(result.getUpdate(bridge));
+            }
+
+            @Override
+            public void exception(Throwable throwable) {
+            }
+        };
+        ListenableFuture<Void> monitor = client.monitorInChunks(dbSchema,
+                Collections.singletonList(new MonitorRequestBuilder<>(bridge).addColumn("name").build()), callback, 3);
+
+        StringBuilder reply = new StringBuilder("{\"Bridge\":{");
+        List<String> uuids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            String uuid = java.util.UUID.randomUUID().toString();
+            uuids.add(uuid);
+            reply.append(i == 0 ? "" : ",").append('"').append(uuid).append("\":{\"new\":{\"name\":\"br")
+                    .append(i).append("\"}}");
+        }
+        reply.append("}}");
+        try (JsonParser parser = mapper.getFactory().createParser(reply.toString())) {
+            while (parser.nextToken() != null) {
+                monitorReader.readToken(parser);
+            }
+        }
+
+        assertEquals(3, chunks.size());
+        List<String> received = new ArrayList<>();
+        for (TableUpdate<GenericTableSchema> chunk : chunks) {
+            assertTrue(chunk.getRows().size() <= 3);
+            for (UUID uuid : chunk.getRows().keySet()) {
+                received.add(uuid.toString());
+                assertEquals("br" + uuids.indexOf(uuid.toString()),
+                        chunk.getNew(uuid).getColumn(bridge.column("name", String.class)).getData());
+            }
+        }
+        assertEquals(uuids.size(), received.size());
+        assertTrue(received.containsAll(uuids));
+        assertEquals(Arrays.asList(3, 3, 1), Arrays.asList(chunks.get(0).getRows().size(),
+                chunks.get(1).getRows().size(), chunks.get(2).getRows().size()));
+
+        ((SettableFuture<Void>) monitorReplies.get(0)).set(null);
+        assertTrue(monitor.isDone());
+        sendUpdate(monitorId(0));
+        assertEquals(4, chunks.size());
+    }
+
+    /**
+     * Test that the callback of a chunked monitor is unregistered when the monitor fails before its reply comes in,
+     * and kept once the reply is being read, the server then sending the updates.
+     */
+    @Test
+    public void testMonitorInChunksKeepsStartedMonitor() throws IOException {
+        AtomicInteger updates = new AtomicInteger();
+        MonitorCallBack callback = new MonitorCallBack() {
+            @Override
+            public void update(TableUpdates result, DatabaseSchema schema) {
+                updates.incrementAndGet();
+            }
+
+            @Override
+            public void exception(Throwable throwable) {
+            }
+        };
+        GenericTableSchema bridge = dbSchema.table("Bridge", GenericTableSchema.class);
+
+        client.monitorInChunks(dbSchema,
+                Collections.singletonList(new MonitorRequestBuilder<>(bridge).addColumn("name").build()), callback, 3);
+        monitorReplies.get(0).cancel(false);
+        sendUpdate(monitorId(0));
+        assertEquals(0, updates.get());
+
+        client.monitorInChunks(dbSchema,
+                Collections.singletonList(new MonitorRequestBuilder<>(bridge).addColumn("name").build()), callback, 3);
+        // the start of the reply, cut short
+        try (JsonParser parser = mapper.getFactory().createParser("{\"Bridge\":{")) {
+            for (int i = 0; i < 3; i++) {
+                parser.nextToken();
+                monitorReader.readToken(parser);
+            }
+        }
+        monitorReplies.get(1).setException(new IOException("connection closed"));
+        sendUpdate(monitorId(1));
+        assertEquals(1, updates.get());
+    }
+
+    /**
+     * Test that the updates of a table missing from the schema are skipped, by the update notifications and by the
+     * chunked monitor, while the rows of the other tables are delivered.
+     */
+    @Test
+    public void testUnknownTableSkipped() throws IOException {
+        List<TableUpdates> received = new ArrayList<>();
+        MonitorCallBack callback = new MonitorCallBack() {
+            @Override
+            public void update(TableUpdates result, DatabaseSchema schema) {
+                received.add(result);
+            }
+
+            @Override
+            public void exception(Throwable throwable) {
+            }
+        };
+        GenericTableSchema bridge = dbSchema.table("Bridge", GenericTableSchema.class);
+        client.monitorInChunks(dbSchema,
+                Collections.singletonList(new MonitorRequestBuilder<>(bridge).addColumn("name").build()), callback, 3);
+        String updates = "{\"Unknown\":{\"" + java.util.UUID.randomUUID() + "\":{\"new\":{\"x\":[\"set\",[]]}}},"
+                + "\"Bridge\":{\"" + java.util.UUID.randomUUID() + "\":{\"new\":{\"name\":\"br0\"}}}}";
+
+        try (JsonParser parser = mapper.getFactory().createParser(updates)) {
+            while (parser.nextToken() != null) {
+                monitorReader.readToken(parser);
+            }
+        }
+        try (JsonParser parser = mapper.getFactory().createParser("[\"" + monitorId(0) + "\"," + updates + "]")) {
+            rpcCallback.update(null, UpdateNotification.fromParser(parser));
+        }
+
+        assertEquals(2, received.size());
+        for (TableUpdates tableUpdates : received) {
+            assertEquals(Collections.singleton("Bridge"), tableUpdates.getUpdates().keySet());
+            assertEquals(1, tableUpdates.getUpdate(bridge).getRows().size());
+        }
+    }
+}
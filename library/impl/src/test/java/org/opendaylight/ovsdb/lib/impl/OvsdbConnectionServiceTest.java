@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.io.File;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+import org.opendaylight.ovsdb.lib.jsonrpc.JsonRpc10Response;
+
+public class OvsdbConnectionServiceTest {
+
+    private final OvsdbConnectionService service = new OvsdbConnectionService();
+    private final EmbeddedChannel admitted = new EmbeddedChannel();
+    private final EmbeddedChannel waiting = new EmbeddedChannel();
+
+    @After
+    public void tearDown() {
+        admitted.close();
+        waiting.close();
+        service.setOvsdbAdmissionMaxBootstrapping(0);
+    }
+
+    /**
+     * Test that a passive connection waiting for its admission already answers the echo requests of the switch.
+     */
+    @Test
+    public void testEchoWhileWaitingForAdmission() throws Exception {
+        service.setOvsdbAdmissionMaxBootstrapping(1);
+        OvsdbConnectionService.handleNewPassiveConnection(admitted);
+        OvsdbConnectionService.handleNewPassiveConnection(waiting);
+        assertEquals(1, service.getAdmissionQueueDepth());
+
+        waiting.writeInbound(new ObjectMapper().readTree("{\"id\":\"echo-1\",\"method\":\"echo\",\"params\":[]}"));
+        JsonRpc10Response response = waiting.readOutbound();
+        assertEquals("echo-1", response.getId());
+        assertNull(waiting.readOutbound());
+        assertEquals(1, service.getAdmissionQueueDepth());
+    }
+
+    /**
+     * Test that connecting through a unix domain socket fails without the epoll transport.
+     */
+    @Test
+    public void testConnectUnixSocketWithoutEpoll() throws Exception {
+        Assume.assumeFalse(OvsdbConnectionService.epollUnavailabilityCause() == null);
+        ListenableFuture<OvsdbClient> future = service.connectUnixSocketAsync("/var/run/openvswitch/db.sock", 1000);
+        assertTrue(future.isDone());
+        try {
+            future.get();
+            fail("Expected the connection to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof UnsupportedOperationException);
+        }
+        assertNull(service.connectUnixSocket("/var/run/openvswitch/db.sock"));
+    }
+
+    /**
+     * Test that connecting through a unix domain socket no one listens on fails.
+     */
+    @Test
+    public void testConnectUnixSocketNotListening() throws Exception {
+        Assume.assumeTrue(OvsdbConnectionService.epollUnavailabilityCause() == null);
+        File socket = File.createTempFile("ovsdb", ".sock");
+        socket.delete();
+        try {
+            service.connectUnixSocketAsync(socket.getPath(), 1000).get(5, TimeUnit.SECONDS);
+            fail("Expected the connection to fail");
+        } catch (ExecutionException e) {
+            assertFalse(e.getCause() instanceof UnsupportedOperationException);
+        }
+        assertNull(service.connectUnixSocket(socket.getPath()));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ReconnectSchedulerTest {
+
+    private final ReconnectScheduler scheduler = new ReconnectScheduler();
+
+    /**
+     * Test that the delay bound doubles with the failed attempts up to the maximum, and starts over after a reset.
+     */
+    @Test
+    public void testBackoff() {
+        scheduler.configure(100, 1000, 0);
+        long[] bounds = {100, 200, 400, 800, 1000, 1000};
+        for (long bound : bounds) {
+            long delay = scheduler.nextDelayMillis("node");
+            assertTrue(delay >= 0 && delay <= bound);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertTrue(scheduler.nextDelayMillis("node") <= 1000);
+        }
+        scheduler.reset("node");
+        assertTrue(scheduler.nextDelayMillis("node") <= 100);
+        assertTrue(scheduler.nextDelayMillis("other") <= 100);
+    }
+
+    /**
+     * Test that the delay before the first attempt is bounded by the base.
+     */
+    @Test
+    public void testFirstDelay() {
+        scheduler.configure(100, 1000, 0);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(scheduler.firstDelayMillis() <= 100);
+        }
+    }
+
+    /**
+     * Test that no more attempts than configured are in flight.
+     */
+    @Test
+    public void testMaxInFlight() {
+        scheduler.configure(100, 1000, 2);
+        assertTrue(scheduler.tryStartAttempt());
+        assertTrue(scheduler.tryStartAttempt());
+        assertFalse(scheduler.tryStartAttempt());
+        scheduler.endAttempt();
+        assertTrue(scheduler.tryStartAttempt());
+        assertEquals(2, scheduler.getAttemptsInFlight());
+    }
+}
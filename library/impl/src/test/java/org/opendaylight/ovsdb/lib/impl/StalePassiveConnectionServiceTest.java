@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.impl;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.SettableFuture;
+import io.netty.channel.Channel;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+import org.opendaylight.ovsdb.lib.OvsdbConnectionInfo.ConnectionType;
+import org.opendaylight.ovsdb.lib.OvsdbConnectionListener;
+
+public class StalePassiveConnectionServiceTest {
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final StalePassiveConnectionService staleService = new StalePassiveConnectionService(executor);
+    private final OvsdbConnectionService connectionService = new OvsdbConnectionService();
+    private final BlockingQueue<OvsdbClient> connected = new LinkedBlockingQueue<>();
+    private final SettableFuture<List<String>> staleEcho = SettableFuture.create();
+    private final Set<OvsdbClient> clients = ConcurrentHashMap.newKeySet();
+    private OvsdbClient staleClient;
+    private OvsdbClient newClient;
+
+    private final OvsdbConnectionListener listener = new OvsdbConnectionListener() {
+        @Override
+        public void connected(OvsdbClient client) {
+            if (clients.contains(client)) {
+                connected.add(client);
+            }
+        }
+
+        @Override
+        public void disconnected(OvsdbClient client) {
+        }
+    };
+
+    @Before
+    public void setUp() {
+        Channel staleChannel = ConnectionRegistryTest.channelFrom("10.0.0.1");
+        Channel newChannel = ConnectionRegistryTest.channelFrom("10.0.0.1");
+        staleClient = client(staleChannel, staleEcho);
+        newClient = client(newChannel, SettableFuture.create());
+        connectionService.registerConnectionListener(listener);
+    }
+
+    @After
+    public void tearDown() {
+        connectionService.unregisterConnectionListener(listener);
+        executor.shutdownNow();
+    }
+
+    private OvsdbClient client(Channel channel, SettableFuture<List<String>> echo) {
+        OvsdbClient client = ConnectionRegistryTest.client(channel, ConnectionType.PASSIVE);
+        when(client.echo()).thenReturn(echo);
+        when(client.isActive()).thenReturn(true);
+        clients.add(client);
+        return client;
+    }
+
+    /**
+     * Test that a reconnect from the same address is notified once the stale connection is closed.
+     */
+    @Test
+    public void testReconnectAfterStaleConnectionClosed() throws InterruptedException {
+        staleService.handleNewPassiveConnection(newClient, Collections.singletonList(staleClient));
+        assertNull(connected.poll(100, TimeUnit.MILLISECONDS));
+
+        staleService.clientDisconnected(staleClient);
+        assertSame(newClient, connected.poll(5, TimeUnit.SECONDS));
+        assertNull(connected.poll(100, TimeUnit.MILLISECONDS));
+        verify(staleClient, never()).disconnect();
+    }
+
+    /**
+     * Test that a reconnect from the same address is notified once the other connection answers the echo, and
+     * that the next reconnect from the address waits again.
+     */
+    @Test
+    public void testReconnectWithLiveConnection() throws InterruptedException {
+        staleService.handleNewPassiveConnection(newClient, Collections.singletonList(staleClient));
+        staleEcho.set(Collections.emptyList());
+        assertSame(newClient, connected.poll(5, TimeUnit.SECONDS));
+        verify(staleClient, never()).disconnect();
+
+        OvsdbClient nextClient = client(ConnectionRegistryTest.channelFrom("10.0.0.1"), SettableFuture.create());
+        staleService.handleNewPassiveConnection(nextClient, Collections.singletonList(newClient));
+        // the first reconnect is no longer pending, the stale connection closing does not notify it again
+        staleService.clientDisconnected(staleClient);
+        assertNull(connected.poll(100, TimeUnit.MILLISECONDS));
+        staleService.clientDisconnected(newClient);
+        assertSame(nextClient, connected.poll(5, TimeUnit.SECONDS));
+    }
+}
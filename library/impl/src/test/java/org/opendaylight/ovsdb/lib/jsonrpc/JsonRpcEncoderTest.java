@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.CharsetUtil;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.notation.OvsdbSet;
+
+public class JsonRpcEncoderTest {
+
+    ObjectMapper objectMapper;
+    EmbeddedChannel ch;
+
+    @Before
+    public void setUp() {
+        objectMapper = new ObjectMapper().setSerializationInclusion(Include.NON_NULL);
+        ch = new EmbeddedChannel(new JsonRpcEncoder(objectMapper, true));
+    }
+
+    /**
+     * Test that a request is encoded to the same bytes as its stringified form.
+     */
+    @Test
+    public void testEncodeRequest() throws Exception {
+        JsonRpc10Request request = new JsonRpc10Request("1");
+        request.setMethod("transact");
+        request.setParams(Arrays.asList("Open_vSwitch",
+                ImmutableMap.of("op", "insert", "row", ImmutableMap.of("ports", OvsdbSet.fromSet(
+                        ImmutableMap.of("a", 1).keySet())))));
+        ch.writeOutbound(request);
+        ByteBuf buf = ch.readOutbound();
+        assertEquals(objectMapper.writeValueAsString(request), buf.toString(CharsetUtil.UTF_8));
+        buf.release();
+        ch.finish();
+    }
+
+    /**
+     * Test that strings and buffers are still written as is.
+     */
+    @Test
+    public void testEncodePassThrough() throws Exception {
+        ch.writeOutbound("{\"id\":\"é\"}");
+        ByteBuf buf = ch.readOutbound();
+        assertEquals("{\"id\":\"é\"}", buf.toString(CharsetUtil.UTF_8));
+        buf.release();
+
+        ByteBuf raw = Unpooled.copiedBuffer("{}", CharsetUtil.UTF_8);
+        ch.writeOutbound(raw);
+        assertSame(raw, ch.readOutbound());
+        raw.release();
+        ch.finish();
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.CharsetUtil;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.error.ConnectionBusyException;
+import org.opendaylight.ovsdb.lib.error.UnsupportedArgumentException;
+import org.opendaylight.ovsdb.lib.message.OvsdbRPC;
+import org.opendaylight.ovsdb.lib.message.UpdateNotification;
+
+public class JsonRpcEndpointTest {
+
+    // an rpc whose last parameter is a boxed long, which is not a deadline
+    interface LongParamRpc {
+        ListenableFuture<List<String>> echo(Long param);
+    }
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    EmbeddedChannel ch;
+    JsonRpcEndpoint endpoint;
+    OvsdbRPC rpc;
+
+    @Before
+    public void setUp() {
+        ch = new EmbeddedChannel(new JsonRpcEncoder(objectMapper, false));
+        endpoint = new JsonRpcEndpoint(objectMapper, ch);
+        rpc = endpoint.getClient(ch, OvsdbRPC.class);
+    }
+
+    @After
+    public void tearDown() {
+        JsonRpcEndpoint.setMethodTimeout("echo", 0);
+        JsonRpcEndpoint.setMethodTimeout("monitor", 0);
+        ch.finish();
+    }
+
+    private JsonNode readRequest() throws Exception {
+        ByteBuf buf = ch.readOutbound();
+        try {
+            return objectMapper.readTree(buf.toString(CharsetUtil.UTF_8));
+        } finally {
+            buf.release();
+        }
+    }
+
+    private void writeInbound(String json) {
+        ch.writeInbound(Unpooled.copiedBuffer(json, CharsetUtil.UTF_8));
+    }
+
+    /**
+     * Sets up the channel to decode the replies with the streaming decoder, and returns a monitorStreaming call
+     * whose reader records the field names and texts of the result tokens.
+     */
+    private ListenableFuture<Void> monitorStreaming(List<String> tokens) {
+        JsonRpcStreamingDecoder decoder = new JsonRpcStreamingDecoder(100000);
+        decoder.setResultReaders(endpoint::startResult);
+        JsonRpcServiceBinderHandler binder = new JsonRpcServiceBinderHandler(endpoint);
+        binder.setContext(ch);
+        ch.pipeline().addLast(decoder, binder);
+        return rpc.monitorStreaming(() -> Arrays.asList("Open_vSwitch", null, Collections.emptyMap()),
+            parser -> tokens.add(parser.getCurrentToken() == JsonToken.FIELD_NAME ? parser.getCurrentName()
+                    : parser.getText()));
+    }
+
+    /**
+     * Test that the result of a streaming call is handed over to its reader as it is received, when the id of the
+     * reply comes first, and that the call completes with the reply.
+     */
+    @Test
+    public void testStreamingResult() throws Exception {
+        List<String> tokens = new ArrayList<>();
+        ListenableFuture<Void> monitor = monitorStreaming(tokens);
+        JsonNode request = readRequest();
+        assertEquals("monitor", request.get("method").asText());
+        assertEquals(3, request.get("params").size());
+
+        writeInbound("{\"id\":" + request.get("id")
+                + ",\"result\":{\"Bridge\":{\"a\":{\"new\":{\"name\":\"br0\"}}");
+        assertEquals(Arrays.asList("{", "Bridge", "{", "a", "{", "new", "{", "name", "br0", "}", "}"), tokens);
+        assertFalse(monitor.isDone());
+
+        writeInbound(",\"b\":{}}},\"error\":null}");
+        assertEquals(16, tokens.size());
+        assertEquals(Arrays.asList("b", "{", "}", "}", "}"), tokens.subList(11, 16));
+        assertEquals(null, monitor.get());
+        assertTrue(endpoint.getMethodContext().isEmpty());
+        assertEquals(null, ch.readInbound());
+    }
+
+    /**
+     * Test that the deadline of a call no longer applies once its result is being received.
+     */
+    @Test
+    public void testDeadlineUntilResult() throws Exception {
+        JsonRpcEndpoint.setMethodTimeout("monitor", 50);
+        List<String> tokens = new ArrayList<>();
+        ListenableFuture<Void> monitor = monitorStreaming(tokens);
+        writeInbound("{\"id\":" + readRequest().get("id") + ",\"result\":{\"Bridge\":{");
+        Thread.sleep(300);
+        assertFalse(monitor.isDone());
+        writeInbound("}},\"error\":null}");
+        assertEquals(null, monitor.get());
+
+        ListenableFuture<Void> late = rpc.monitorStreaming(() -> Collections.emptyList(), parser -> { });
+        for (int i = 0; i < 100 && !late.isDone(); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(late.isCancelled());
+    }
+
+    /**
+     * Test that the result of a streaming call is replayed to its reader once the reply is complete, when the id of
+     * the reply comes after its result, and that a failing reader fails the call.
+     */
+    @Test
+    public void testReplayedResult() throws Exception {
+        List<String> tokens = new ArrayList<>();
+        ListenableFuture<Void> monitor = monitorStreaming(tokens);
+        JsonNode request = readRequest();
+
+        writeInbound("{\"result\":{\"Bridge\":{\"a\":{}}}");
+        assertTrue(tokens.isEmpty());
+        writeInbound(",\"error\":null,\"id\":" + request.get("id") + "}");
+        assertEquals(Arrays.asList("{", "Bridge", "{", "a", "{", "}", "}", "}"), tokens);
+        assertEquals(null, monitor.get());
+
+        ListenableFuture<Void> failed = rpc.monitorStreaming(() -> Collections.emptyList(), parser -> {
+            throw new IOException("unexpected token");
+        });
+        writeInbound("{\"id\":" + readRequest().get("id") + ",\"result\":{},\"error\":null}");
+        try {
+            failed.get();
+            fail("Expected an IOException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    /**
+     * Test that requests carry sequential numeric ids, and that replies complete the matching call.
+     */
+    @Test
+    public void testReplyCompletesCall() throws Exception {
+        ListenableFuture<List<String>> first = rpc.echo();
+        ListenableFuture<List<String>> second = rpc.echo();
+        JsonNode firstRequest = readRequest();
+        JsonNode secondRequest = readRequest();
+        assertTrue(firstRequest.get("id").isIntegralNumber());
+        assertEquals(firstRequest.get("id").longValue() + 1, secondRequest.get("id").longValue());
+
+        endpoint.processResult(objectMapper.readTree(
+                "{\"id\":" + secondRequest.get("id") + ",\"result\":[\"pong\"],\"error\":null}"));
+        assertEquals(Collections.singletonList("pong"), second.get());
+        assertEquals(1, endpoint.getMethodContext().size());
+        assertFalse(first.isDone());
+    }
+
+    /**
+     * Test that requests from the switch are dispatched to the matching callback method.
+     */
+    @Test
+    public void testCallbackDispatch() throws Exception {
+        List<Object> locked = new ArrayList<>();
+        rpc.registerCallback(new OvsdbRPC.Callback() {
+            @Override
+            public void update(Object context, UpdateNotification upadateNotification) {
+            }
+
+            @Override
+            public void locked(Object context, List<String> ids) {
+                locked.add(context);
+                locked.addAll(ids);
+            }
+
+            @Override
+            public void stolen(Object context, List<String> ids) {
+            }
+        });
+        endpoint.processRequest(ch, objectMapper.readTree(
+                "{\"id\":null,\"method\":\"locked\",\"params\":[\"lock\"]}"));
+        assertEquals(Arrays.asList(ch, "lock"), locked);
+    }
+
+    /**
+     * Test that offloaded notifications are processed in order, and that reading is suspended while too many
+     * of them are pending.
+     */
+    @Test
+    public void testOffloadedCallbacks() throws Exception {
+        Deque<Runnable> executor = new ArrayDeque<>();
+        endpoint.setNotificationExecutor(executor::add, 2);
+        List<Object> locked = new ArrayList<>();
+        rpc.registerCallback(new OvsdbRPC.Callback() {
+            @Override
+            public void update(Object context, UpdateNotification upadateNotification) {
+            }
+
+            @Override
+            public void locked(Object context, List<String> ids) {
+                locked.addAll(ids);
+            }
+
+            @Override
+            public void stolen(Object context, List<String> ids) {
+            }
+        });
+        for (String lock : Arrays.asList("a", "b", "c")) {
+            endpoint.processRequest(ch, objectMapper.readTree(
+                    "{\"id\":null,\"method\":\"locked\",\"params\":[\"" + lock + "\"]}"));
+        }
+        assertTrue(locked.isEmpty());
+        assertFalse(ch.config().isAutoRead());
+
+        // the serial executor only occupies the delegate once, draining all the pending notifications
+        assertEquals(1, executor.size());
+        executor.poll().run();
+        ch.runPendingTasks();
+        assertEquals(Arrays.asList("a", "b", "c"), locked);
+        assertTrue(ch.config().isAutoRead());
+    }
+
+    /**
+     * Test that requests are held back while the channel is not writable, up to the pending write limit.
+     */
+    @Test
+    public void testPendingWrites() throws Exception {
+        // holds the flushed bytes in the outbound buffer until released
+        AtomicBoolean hold = new AtomicBoolean(true);
+        ch.pipeline().addFirst(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void flush(ChannelHandlerContext ctx) throws Exception {
+                if (!hold.get()) {
+                    ctx.flush();
+                }
+            }
+        });
+        ch.pipeline().addLast(new JsonRpcServiceBinderHandler(endpoint));
+        ch.config().setWriteBufferWaterMark(new WriteBufferWaterMark(1, 2));
+        endpoint.setPendingWriteLimit(1);
+
+        ListenableFuture<List<String>> written = rpc.echo();
+        assertFalse(ch.isWritable());
+        ListenableFuture<List<String>> held = rpc.echo();
+        ListenableFuture<List<String>> failed = rpc.echo();
+        ch.runPendingTasks();
+        try {
+            failed.get();
+            fail("Expected a ConnectionBusyException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ConnectionBusyException);
+        }
+        assertEquals(2, endpoint.getMethodContext().size());
+
+        hold.set(false);
+        ch.flush();
+        ch.runPendingTasks();
+        JsonNode first = readRequest();
+        JsonNode second = readRequest();
+        assertEquals(first.get("id").longValue() + 1, second.get("id").longValue());
+        assertFalse(written.isDone());
+        assertFalse(held.isDone());
+    }
+
+    /**
+     * Test that calls are cancelled by their method timeout, unless they carry a deadline of their own.
+     */
+    @Test
+    public void testTimeouts() throws Exception {
+        JsonRpcEndpoint.setMethodTimeout("echo", 50);
+        ListenableFuture<List<String>> defaulted = rpc.echo();
+        ListenableFuture<List<String>> extended = rpc.echo(TimeUnit.MINUTES.toMillis(1));
+        for (int i = 0; i < 100 && !defaulted.isDone(); i++) {
+            Thread.sleep(20);
+        }
+        assertTrue(defaulted.isCancelled());
+        assertFalse(extended.isDone());
+        assertEquals(1, endpoint.getMethodContext().size());
+    }
+
+    /**
+     * Test that only a declared trailing long is taken as the deadline of a call, not any trailing Long argument.
+     */
+    @Test(expected = UnsupportedArgumentException.class)
+    public void testBoxedLongIsNotDeadline() {
+        endpoint.getClient(ch, LongParamRpc.class).echo(1000L);
+    }
+}
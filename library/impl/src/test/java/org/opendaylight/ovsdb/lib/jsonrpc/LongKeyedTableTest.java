@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.jsonrpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+public class LongKeyedTableTest {
+
+    @Test
+    public void testPutGetRemove() {
+        LongKeyedTable<String> table = new LongKeyedTable<>();
+        assertTrue(table.isEmpty());
+        assertNull(table.put(1L, "one"));
+        assertNull(table.put(-1L, "minus one"));
+        assertEquals("one", table.put(1L, "uno"));
+        assertEquals("uno", table.get(1L));
+        assertEquals(2, table.size());
+        assertEquals("minus one", table.remove(-1L));
+        assertNull(table.remove(-1L));
+        assertNull(table.get(2L));
+        assertEquals(1, table.size());
+    }
+
+    /**
+     * Test the table against a HashMap with requests completing out of order, as they do on a connection.
+     */
+    @Test
+    public void testInFlightRequests() {
+        LongKeyedTable<Long> table = new LongKeyedTable<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        long nextId = 0;
+        for (int i = 0; i < 100000; i++) {
+            if (random.nextInt(3) != 0) {
+                nextId++;
+                table.put(nextId, nextId);
+                expected.put(nextId, nextId);
+            } else {
+                long id = nextId - random.nextInt(64);
+                assertEquals(expected.remove(id), table.remove(id));
+            }
+        }
+        assertEquals(expected.size(), table.size());
+        for (long id = 0; id <= nextId; id++) {
+            assertEquals(expected.get(id), table.get(id));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.notation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import org.junit.Test;
+
+public class CompactCollectionsTest {
+
+    /**
+     * Test that the compact sets of every size hold the distinct elements and compare equal to hash sets.
+     */
+    @Test
+    public void testSets() {
+        for (int size = 0; size <= CompactCollections.MAX_ARRAY_SIZE + 2; size++) {
+            Integer[] elements = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                elements[i] = i;
+            }
+            OvsdbSet<Integer> set = OvsdbSet.copyOf(Arrays.asList(elements));
+            assertEquals(new HashSet<>(Arrays.asList(elements)), set);
+            assertEquals(new HashSet<>(Arrays.asList(elements)).hashCode(), set.hashCode());
+            assertFalse(set.contains(size));
+        }
+        OvsdbSet<String> set = OvsdbSet.copyOf(Arrays.asList("a", "b", "a"));
+        assertEquals(2, set.size());
+        assertTrue(set.contains("b"));
+    }
+
+    /**
+     * Test that the compact maps of every size map the keys to their last value and compare equal to hash maps.
+     */
+    @Test
+    public void testMaps() {
+        for (int size = 0; size <= CompactCollections.MAX_ARRAY_SIZE + 2; size++) {
+            Map<String, Integer> expected = new HashMap<>();
+            String[] keys = new String[size];
+            Integer[] values = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = "key" + i;
+                values[i] = i;
+                expected.put(keys[i], i);
+            }
+            OvsdbMap<String, Integer> map = OvsdbMap.copyOf(Arrays.asList(keys), Arrays.asList(values));
+            assertEquals(expected, map);
+            assertEquals(expected.hashCode(), map.hashCode());
+            assertNull(map.get("key" + size));
+        }
+        OvsdbMap<String, String> map = OvsdbMap.copyOf(Arrays.asList("a", "b", "a"), Arrays.asList("1", "2", "3"));
+        assertEquals(2, map.size());
+        assertEquals("3", map.get("a"));
+    }
+
+    /**
+     * Test that the compact collections cannot be modified.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testImmutable() {
+        OvsdbMap.copyOf(Arrays.asList("a", "b"), Arrays.asList("1", "2")).put("c", "3");
+    }
+
+    /**
+     * Test that the compact collections are serialized as OVSDB sets and maps.
+     */
+    @Test
+    public void testSerialize() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        assertEquals("[\"set\",[1,2]]", mapper.writeValueAsString(OvsdbSet.copyOf(Arrays.asList(1, 2))));
+        assertEquals("[\"set\",[]]", mapper.writeValueAsString(OvsdbSet.copyOf(Collections.emptyList())));
+        assertEquals("[\"map\",[[\"a\",\"1\"],[\"b\",\"2\"]]]",
+                mapper.writeValueAsString(OvsdbMap.copyOf(Arrays.asList("a", "b"), Arrays.asList("1", "2"))));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.notation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.schema.ColumnSchema;
+import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
+
+public class RowTest {
+
+    private static final String TABLE = "{\"columns\":{\"name\":{\"type\":\"string\"},"
+            + "\"ofport\":{\"type\":\"integer\"},\"type\":{\"type\":\"string\"}}}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private GenericTableSchema tableSchema() throws IOException {
+        return new GenericTableSchema().fromJson("Interface", mapper.readTree(TABLE));
+    }
+
+    /**
+     * Test that the columns of a row parsed from JSON are read back, that hidden columns are skipped, and that
+     * setting the data of a column read from the row updates the row.
+     */
+    @Test
+    public void testColumns() throws IOException {
+        GenericTableSchema schema = tableSchema();
+        Row<GenericTableSchema> row = schema.createRow(
+                (ObjectNode) mapper.readTree("{\"name\":\"eth0\",\"ofport\":3,\"hidden\":true}"));
+        ColumnSchema<GenericTableSchema, String> name = schema.column("name", String.class);
+        ColumnSchema<GenericTableSchema, String> type = schema.column("type", String.class);
+
+        assertEquals("eth0", row.getColumn(name).getData());
+        assertNull(row.getColumn(type));
+        assertEquals(2, row.getColumns().size());
+
+        row.getColumn(name).setData("eth1");
+        assertEquals("eth1", row.getColumn(name).getData());
+        row.addColumn("type", new Column<>(type, "internal"));
+        assertEquals(new Column<>(type, "internal"), row.getColumn(type));
+        assertEquals(3, row.getColumns().size());
+    }
+
+    /**
+     * Test that rows compare by their columns, whatever the order they were added in, and that a row built without
+     * a schema is equal to the same row once the schema is set.
+     */
+    @Test
+    public void testEquals() throws IOException {
+        GenericTableSchema schema = tableSchema();
+        Column<GenericTableSchema, String> name = new Column<>(schema.column("name", String.class), "eth0");
+        Column<GenericTableSchema, Long> ofport = new Column<>(schema.column("ofport", Long.class), 3L);
+
+        Row<GenericTableSchema> row = new Row<>(schema, Arrays.asList(name, ofport));
+        Row<GenericTableSchema> reversed = new Row<>(schema, Arrays.asList(ofport, name));
+        assertEquals(row, reversed);
+        assertEquals(row.hashCode(), reversed.hashCode());
+
+        Row<GenericTableSchema> unbound = new Row<>();
+        unbound.addColumn("name", name);
+        unbound.addColumn("ofport", ofport);
+        int unboundHashCode = unbound.hashCode();
+        unbound.setTableSchema(new GenericTableSchema(schema));
+        assertEquals(row, unbound);
+        assertEquals(unboundHashCode, unbound.hashCode());
+
+        reversed.getColumn(schema.column("ofport", Long.class)).setData(4L);
+        assertNotEquals(row, reversed);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.notation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+public class UUIDTest {
+
+    private static final String UUID_STRING = "0fcf8b5a-3e1b-4c02-9d5e-a8e02f1b7c4d";
+
+    /**
+     * Test that a uuid is held as its bits, formatted back to its canonical form, and equal to the same uuid
+     * parsed from characters or built from java.util.UUID bits.
+     */
+    @Test
+    public void testUuid() {
+        UUID uuid = new UUID(UUID_STRING);
+        assertFalse(uuid.isNamed());
+        assertEquals(UUID_STRING, uuid.toString());
+        assertEquals(uuid, new UUID(UUID_STRING.toUpperCase()));
+
+        char[] buffer = ("[\"uuid\",\"" + UUID_STRING + "\"]").toCharArray();
+        UUID parsed = UUID.fromChars(buffer, 9, UUID_STRING.length());
+        assertEquals(uuid, parsed);
+        assertEquals(uuid.hashCode(), parsed.hashCode());
+
+        java.util.UUID javaUuid = java.util.UUID.fromString(UUID_STRING);
+        assertEquals(uuid, new UUID(javaUuid.getMostSignificantBits(), javaUuid.getLeastSignificantBits()));
+    }
+
+    /**
+     * Test that a named-uuid is held as its name, and is never equal to a uuid.
+     */
+    @Test
+    public void testNamedUuid() {
+        UUID named = new UUID("row1");
+        assertTrue(named.isNamed());
+        assertEquals("row1", named.toString());
+        assertEquals(named, UUID.fromChars("row1".toCharArray(), 0, 4));
+        assertNotEquals(named, new UUID(UUID_STRING));
+        assertTrue(new UUID("0fcf8b5a-3e1b-4c02-9d5e-a8e02f1b7c4g").isNamed());
+    }
+
+    /**
+     * Test that a uuid built from a null value holds null, and is only equal to another one built from null.
+     */
+    @Test
+    public void testNullUuid() {
+        UUID uuid = new UUID(null);
+        assertNull(uuid.toString());
+        assertEquals(new UUID(null), uuid);
+        assertEquals(new UUID(null).hashCode(), uuid.hashCode());
+        assertNotEquals(new UUID(""), uuid);
+        assertNotEquals(uuid, new UUID(""));
+        assertNotEquals(new UUID(0, 0), uuid);
+    }
+
+    /**
+     * Test that uuids and named-uuids are serialized with their tag.
+     */
+    @Test
+    public void testSerialize() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        assertEquals("[\"uuid\",\"" + UUID_STRING + "\"]", mapper.writeValueAsString(new UUID(UUID_STRING)));
+        assertEquals("[\"named-uuid\",\"row1\"]", mapper.writeValueAsString(new UUID("row1")));
+    }
+}
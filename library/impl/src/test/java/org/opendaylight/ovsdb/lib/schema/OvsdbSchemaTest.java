@@ -8,13 +8,19 @@
 package org.opendaylight.ovsdb.lib.schema;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.io.InputStream;
 import org.junit.Test;
+import org.opendaylight.ovsdb.lib.message.TableUpdate;
+import org.opendaylight.ovsdb.lib.notation.UUID;
 import org.opendaylight.ovsdb.lib.notation.Version;
 
 public class OvsdbSchemaTest {
@@ -36,4 +42,77 @@ public class OvsdbSchemaTest {
         assertNotNull(schema);
         assertEquals(Version.fromString("6.12.0"), schema.getVersion());
     }
+
+    /**
+     * Test that binding the table-updates in monitor_response1.json straight from
+     * the token stream yields the same rows as binding them from a JsonNode tree.
+     */
+    @Test
+    public void testUpdatesFromParser() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode schemaNode = mapper.readTree(OvsdbSchemaTest.class.getResourceAsStream("test_schema.json"));
+        DatabaseSchema schema = DatabaseSchema.fromJson("some", schemaNode.get("result"));
+        schema.populateInternallyGeneratedColumns();
+
+        String resource = "/org/opendaylight/ovsdb/lib/message/monitor_response1.json";
+        JsonNode updatesNode = mapper.readTree(OvsdbSchemaTest.class.getResourceAsStream(resource));
+        JsonParser parser = mapper.getFactory().createParser(OvsdbSchemaTest.class.getResourceAsStream(resource));
+        assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+        int tables = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String tableName = parser.getCurrentName();
+            parser.nextToken();
+            GenericTableSchema table = schema.table(tableName, GenericTableSchema.class);
+            TableUpdate<GenericTableSchema> streamed = table.updatesFromJson(parser);
+            TableUpdate<GenericTableSchema> expected = table.updatesFromJson(updatesNode.get(tableName));
+            assertEquals(expected.getRows().keySet(), streamed.getRows().keySet());
+            for (UUID uuid : expected.getRows().keySet()) {
+                assertEquals(expected.getNew(uuid), streamed.getNew(uuid));
+                assertEquals(expected.getOld(uuid), streamed.getOld(uuid));
+            }
+            tables++;
+        }
+        assertEquals(updatesNode.size(), tables);
+    }
+
+    /**
+     * Test that rowUpdateFromJson reads a single row update per call, skipping the malformed ones, and leaves the
+     * parser on the end of the table-update once it returns false.
+     */
+    @Test
+    public void testRowUpdateFromJson() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode schemaNode = mapper.readTree(OvsdbSchemaTest.class.getResourceAsStream("test_schema.json"));
+        DatabaseSchema schema = DatabaseSchema.fromJson("some", schemaNode.get("result"));
+        schema.populateInternallyGeneratedColumns();
+        GenericTableSchema table = schema.table("Port", GenericTableSchema.class);
+
+        String resource = "/org/opendaylight/ovsdb/lib/message/monitor_response1.json";
+        JsonNode portNode = mapper.readTree(OvsdbSchemaTest.class.getResourceAsStream(resource)).get("Port");
+        TableUpdate<GenericTableSchema> expected = table.updatesFromJson(portNode);
+        JsonParser parser = mapper.getFactory().createParser(mapper.writeValueAsString(portNode));
+        assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+        TableUpdate<GenericTableSchema> tableUpdate = new TableUpdate<>();
+        for (int rows = 1; rows <= portNode.size(); rows++) {
+            assertTrue(table.rowUpdateFromJson(parser, tableUpdate));
+            assertEquals(rows, tableUpdate.getRows().size());
+        }
+        assertFalse(table.rowUpdateFromJson(parser, tableUpdate));
+        assertEquals(JsonToken.END_OBJECT, parser.getCurrentToken());
+        assertEquals(null, parser.nextToken());
+        for (UUID uuid : expected.getRows().keySet()) {
+            assertEquals(expected.getNew(uuid), tableUpdate.getNew(uuid));
+            assertEquals(expected.getOld(uuid), tableUpdate.getOld(uuid));
+        }
+
+        String uuid = java.util.UUID.randomUUID().toString();
+        parser = mapper.getFactory().createParser("{\"" + uuid + "\":[1],\"" + uuid + "\":{\"initial\":{}}}");
+        parser.nextToken();
+        tableUpdate = new TableUpdate<>();
+        assertTrue(table.rowUpdateFromJson(parser, tableUpdate));
+        assertTrue(tableUpdate.getRows().isEmpty());
+        assertTrue(table.rowUpdateFromJson(parser, tableUpdate));
+        assertEquals(null, tableUpdate.getNew(new UUID(uuid)));
+        assertFalse(table.rowUpdateFromJson(parser, tableUpdate));
+    }
 }
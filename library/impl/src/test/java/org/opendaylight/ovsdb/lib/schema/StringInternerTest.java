@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2017 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.ovsdb.lib.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Test;
+import org.opendaylight.ovsdb.lib.notation.Row;
+import org.opendaylight.ovsdb.lib.schema.BaseType.StringBaseType;
+
+public class StringInternerTest {
+
+    private static final String TABLE = "{\"columns\":{\"name\":{\"type\":\"string\"},"
+            + "\"type\":{\"type\":\"string\"},"
+            + "\"external_ids\":{\"type\":{\"key\":\"string\",\"value\":\"string\",\"min\":0,\"max\":\"unlimited\"}},"
+            + "\"admin_state\":{\"type\":{\"key\":{\"type\":\"string\",\"enum\":[\"set\",[\"up\",\"down\"]]}}}}}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @After
+    public void tearDown() {
+        StringInterner.configure(65536, Arrays.asList("type", "external_ids"));
+    }
+
+    private GenericTableSchema tableSchema() throws IOException {
+        return new GenericTableSchema().fromJson("Interface", mapper.readTree(TABLE));
+    }
+
+    /**
+     * Test that the pool returns the instance it holds for equal strings and characters.
+     */
+    @Test
+    public void testIntern() {
+        StringInterner interner = StringInterner.getInstance();
+        String value = interner.intern(new String("internal"));
+        assertSame(value, interner.intern(new String("internal")));
+        assertSame(value, interner.intern("[internal]".toCharArray(), 1, 8));
+        assertEquals("patch", interner.intern("patch".toCharArray(), 0, 5));
+    }
+
+    /**
+     * Test that the values of the configured columns, the map keys and the enumerated values are pooled, whether
+     * decoded from the parser or from a tree, and that the other columns are not.
+     */
+    @Test
+    public void testColumns() throws IOException {
+        StringInterner.configure(1024, Collections.singleton("Interface.type"));
+        GenericTableSchema schema = tableSchema();
+        assertNull(((StringBaseType) schema.column("name").getType().getBaseType()).getInterner());
+
+        String json = "{\"name\":\"eth0\",\"type\":\"internal\",\"admin_state\":\"up\","
+                + "\"external_ids\":[\"map\",[[\"iface-id\",\"port1\"]]]}";
+        JsonParser parser = mapper.getFactory().createParser(json);
+        parser.nextToken();
+        Row<GenericTableSchema> row1 = schema.createRow(parser);
+        Row<GenericTableSchema> row2 = schema.createRow((ObjectNode) mapper.readTree(json));
+
+        assertNotSame(row1.getColumn(schema.column("name", String.class)).getData(),
+                row2.getColumn(schema.column("name", String.class)).getData());
+        assertSame(row1.getColumn(schema.column("type", String.class)).getData(),
+                row2.getColumn(schema.column("type", String.class)).getData());
+        assertSame(row1.getColumn(schema.column("admin_state", String.class)).getData(),
+                row2.getColumn(schema.column("admin_state", String.class)).getData());
+        Map<String, String> ids1 = row1.getColumn(schema.multiValuedColumn("external_ids", String.class, String.class))
+                .getData();
+        Map<String, String> ids2 = row2.getColumn(schema.multiValuedColumn("external_ids", String.class, String.class))
+                .getData();
+        assertSame(ids1.keySet().iterator().next(), ids2.keySet().iterator().next());
+        assertNotSame(ids1.get("iface-id"), ids2.get("iface-id"));
+    }
+
+    /**
+     * Test that nothing is pooled when the pool is disabled.
+     */
+    @Test
+    public void testDisabled() throws IOException {
+        StringInterner.configure(0, Collections.singleton("type"));
+        GenericTableSchema schema = tableSchema();
+        assertNull(((StringBaseType) schema.column("type").getType().getBaseType()).getInterner());
+    }
+}
@@ -9,14 +9,19 @@
 package org.opendaylight.ovsdb.lib.schema.typed;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import org.junit.Assert;
 import org.junit.Test;
+import org.opendaylight.ovsdb.lib.error.ColumnSchemaNotFoundException;
 import org.opendaylight.ovsdb.lib.error.SchemaVersionMismatchException;
+import org.opendaylight.ovsdb.lib.notation.Column;
 import org.opendaylight.ovsdb.lib.notation.Version;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
 import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
@@ -38,6 +43,28 @@ public class TyperUtilsTest {
 
     }
 
+    @TypedTable(name = "Interface", database = "Open_vSwitch")
+    public interface TestInterface extends TypedBaseTable<GenericTableSchema> {
+        @TypedColumn(name = "name", method = MethodType.GETDATA)
+        String getName();
+
+        @TypedColumn(name = "name", method = MethodType.SETDATA)
+        void setName(String name);
+
+        @TypedColumn(name = "name", method = MethodType.GETCOLUMN)
+        Column<GenericTableSchema, String> getNameColumn();
+
+        @TypedColumn(name = "missing", method = MethodType.GETDATA)
+        String getMissing();
+    }
+
+    private DatabaseSchema interfaceSchema() throws IOException {
+        DatabaseSchema dbSchema = DatabaseSchema.fromJson("Open_vSwitch", new ObjectMapper().readTree(
+                "{\"version\":\"7.6.1\",\"tables\":{\"Interface\":{\"columns\":{\"name\":{\"type\":\"string\"}}}}}"));
+        dbSchema.populateInternallyGeneratedColumns();
+        return dbSchema;
+    }
+
     /**
      * Test that {@link TyperUtils#getTableSchema(DatabaseSchema, Class)} returns the appropriate schema when given a
      * table containing the appropriate schema, for a typed table (annotated).
@@ -98,6 +125,42 @@ public class TyperUtilsTest {
         TyperUtils.getTableSchema(dbSchema, TestUntypedTable.class);
     }
 
+    /**
+     * Test that the typed rows of a table read and write their row, and that two typed rows compare by their rows.
+     */
+    @Test
+    public void testTypedRowWrapper() throws IOException {
+        DatabaseSchema dbSchema = interfaceSchema();
+        TestInterface iface = TyperUtils.getTypedRowWrapper(dbSchema, TestInterface.class);
+        assertNull(iface.getName());
+        iface.setName("eth0");
+        assertEquals("eth0", iface.getName());
+        assertEquals("eth0", iface.getNameColumn().getData());
+        assertEquals("Interface", iface.getSchema().getName());
+
+        TestInterface other = TyperUtils.getTypedRowWrapper(dbSchema, TestInterface.class, iface.getRow());
+        assertEquals(iface, other);
+        assertEquals(iface.hashCode(), other.hashCode());
+        assertEquals("eth0", other.getName());
+        assertNull(TyperUtils.getTypedRowWrapper(dbSchema, TestInterface.class, null).getName());
+    }
+
+    /**
+     * Test that a typed row fails on the methods of columns missing from the schema, on every call.
+     */
+    @Test
+    public void testTypedRowWrapperMissingColumn() throws IOException {
+        TestInterface iface = TyperUtils.getTypedRowWrapper(interfaceSchema(), TestInterface.class);
+        for (int i = 0; i < 2; i++) {
+            try {
+                iface.getMissing();
+                Assert.fail("Expected a ColumnSchemaNotFoundException");
+            } catch (ColumnSchemaNotFoundException e) {
+                // expected
+            }
+        }
+    }
+
     /**
      * Test that {@link TyperUtils#checkVersion(Version, Version, Version)} detects an old version. (The aim here isn't
      * to test {@link Version#compareTo(Version)}, that should be done in
@@ -9,17 +9,21 @@ package org.opendaylight.ovsdb.southbound;
 
 import static org.opendaylight.ovsdb.lib.operations.Operations.op;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 
@@ -73,8 +77,14 @@ public class OvsdbConnectionInstance {
     private final OvsdbClient client;
     private ConnectionInfo connectionInfo;
     private final TransactionInvoker txInvoker;
-    private Map<DatabaseSchema,TransactInvoker> transactInvokers;
-    private MonitorCallBack callback;
+    private volatile Map<DatabaseSchema,TransactInvoker> transactInvokers;
+    // completes with the schema once the transact invokers are created
+    private ListenableFuture<DatabaseSchema> transactInvokersFuture;
+    // transacts requested while the transact invokers are created, applied in order once they are; guarded by this
+    private List<Consumer<TransactInvoker>> pendingTransacts;
+    private volatile MonitorCallBack callback;
+    // schema fetch, connection attributes update, monitor and initial dump processing
+    private ListenableFuture<Void> bootstrapFuture;
     private InstanceIdentifier<Node> instanceIdentifier;
     private volatile boolean hasDeviceOwnership = false;
     private Entity connectedEntity;
@@ -101,9 +111,7 @@ public class OvsdbConnectionInstance {
     public void transact(TransactCommand command, BridgeOperationalState state,
             AsyncDataChangeEvent<InstanceIdentifier<?>, DataObject> events,
             InstanceIdentifierCodec instanceIdentifierCodec) {
-        for (TransactInvoker transactInvoker : transactInvokers.values()) {
-            transactInvoker.invoke(command, state, events, instanceIdentifierCodec);
-        }
+        transact(transactInvoker -> transactInvoker.invoke(command, state, events, instanceIdentifierCodec));
     }
 
     /**
@@ -116,8 +124,50 @@ public class OvsdbConnectionInstance {
      */
     public void transact(TransactCommand command, BridgeOperationalState state,
             Collection<DataTreeModification<Node>> modifications, InstanceIdentifierCodec instanceIdentifierCodec) {
+        transact(transactInvoker -> transactInvoker.invoke(command, state, modifications, instanceIdentifierCodec));
+    }
+
+    private void transact(Consumer<TransactInvoker> invocation) {
+        synchronized (this) {
+            if (pendingTransacts != null) {
+                LOG.debug("Schema of {} not fetched yet, queueing the transact", connectionInfo);
+                pendingTransacts.add(invocation);
+                return;
+            }
+        }
         for (TransactInvoker transactInvoker : transactInvokers.values()) {
-            transactInvoker.invoke(command, state, modifications, instanceIdentifierCodec);
+            invocation.accept(transactInvoker);
+        }
+    }
+
+    /**
+     * Applies the transacts queued while the transact invokers were created, including the ones queued meanwhile,
+     * before letting the next transacts through.
+     */
+    private void applyPendingTransacts() {
+        while (true) {
+            List<Consumer<TransactInvoker>> pending;
+            synchronized (this) {
+                if (pendingTransacts.isEmpty()) {
+                    pendingTransacts = null;
+                    return;
+                }
+                pending = pendingTransacts;
+                pendingTransacts = new ArrayList<>();
+            }
+            if (transactInvokers.isEmpty()) {
+                LOG.warn("No schema for {}, dropping {} transacts", connectionInfo, pending.size());
+                continue;
+            }
+            for (Consumer<TransactInvoker> invocation : pending) {
+                for (TransactInvoker transactInvoker : transactInvokers.values()) {
+                    try {
+                        invocation.accept(transactInvoker);
+                    } catch (RuntimeException e) {
+                        LOG.warn("Exception applying a queued transact to {}", connectionInfo, e);
+                    }
+                }
+            }
         }
     }
 
@@ -126,43 +176,109 @@ public class OvsdbConnectionInstance {
         return client.transact(dbSchema, operations);
     }
 
-    public void registerCallbacks(InstanceIdentifierCodec instanceIdentifierCodec) {
-        if (this.callback == null) {
+    /**
+     * Starts monitoring the device, without blocking: each step of the bootstrap runs when the previous one
+     * completes, on the thread completing it. The requests made are bounded by the library rpc timeouts, and the
+     * bootstrap is cancelled if the device disconnects.
+     *
+     * @param instanceIdentifierCodec The instance identifier codec to use.
+     * @return future completing once the initial contents of the device are processed
+     */
+    public synchronized ListenableFuture<Void> registerCallbacks(InstanceIdentifierCodec instanceIdentifierCodec) {
+        if (this.callback != null) {
+            return Futures.immediateFuture(null);
+        }
+        if (bootstrapFuture != null) {
+            return bootstrapFuture;
+        }
+
+        String database = SouthboundConstants.OPEN_V_SWITCH;
+        ListenableFuture<DatabaseSchema> schemaFuture = transactInvokersFuture != null ? transactInvokersFuture
+                : getSchema(database);
+        bootstrapFuture = Futures.transformAsync(schemaFuture, dbSchema -> {
             if (this.initialCreateData != null) {
                 this.updateConnectionAttributes(instanceIdentifierCodec);
             }
+            if (dbSchema == null) {
+                LOG.info("No database {} found on {}", database, connectionInfo);
+                return Futures.immediateFuture(null);
+            }
+            LOG.info("Monitoring database: {}", database);
+            callback = new OvsdbMonitorCallback(instanceIdentifierCodec, this, txInvoker);
+            return monitorTables(database, dbSchema);
+        }, MoreExecutors.directExecutor());
+
+        Futures.addCallback(bootstrapFuture, new FutureCallback<Void>() {
+            @Override
+            public void onSuccess(Void result) {
+                bootstrapComplete();
+            }
 
-            try {
-                String database = SouthboundConstants.OPEN_V_SWITCH;
-                DatabaseSchema dbSchema = getSchema(database).get();
-                if (dbSchema != null) {
-                    LOG.info("Monitoring database: {}", database);
-                    callback = new OvsdbMonitorCallback(instanceIdentifierCodec, this, txInvoker);
-                    monitorTables(database, dbSchema);
+            @Override
+            public void onFailure(Throwable throwable) {
+                if (throwable instanceof CancellationException) {
+                    LOG.debug("Bootstrap of {} cancelled", connectionInfo);
                 } else {
-                    LOG.info("No database {} found on {}", database, connectionInfo);
+                    LOG.warn("Exception attempting to registerCallbacks {}: ", connectionInfo, throwable);
                 }
-            } catch (InterruptedException | ExecutionException e) {
-                LOG.warn("Exception attempting to registerCallbacks {}: ", connectionInfo, e);
+                bootstrapComplete();
             }
+        }, MoreExecutors.directExecutor());
+        return bootstrapFuture;
+    }
+
+    /**
+     * Cancels the bootstrap of the device if it is still in progress, when the device disconnects.
+     */
+    public synchronized void cancelBootstrap() {
+        if (bootstrapFuture != null && !bootstrapFuture.isDone()) {
+            LOG.info("Cancelling the bootstrap of {}", connectionInfo);
+            bootstrapFuture.cancel(false);
+        }
+        if (transactInvokersFuture != null && !transactInvokersFuture.isDone()) {
+            transactInvokersFuture.cancel(false);
         }
     }
 
-    public void createTransactInvokers() {
+    /**
+     * Lets other switches waiting for admission connect, once this one is monitored, or will not be by
+     * this instance.
+     */
+    public void bootstrapComplete() {
+        client.bootstrapComplete();
+    }
+
+    /**
+     * Creates the transact invokers once the schema of the device is fetched, without blocking. The transacts
+     * requested meanwhile are queued, and applied on the thread completing the schema fetch.
+     */
+    public synchronized void createTransactInvokers() {
         if (transactInvokers == null) {
-            try {
-                transactInvokers = new HashMap<>();
-                DatabaseSchema dbSchema = getSchema(SouthboundConstants.OPEN_V_SWITCH).get();
+            transactInvokers = new ConcurrentHashMap<>();
+            pendingTransacts = new ArrayList<>();
+            transactInvokersFuture = Futures.transform(getSchema(SouthboundConstants.OPEN_V_SWITCH), dbSchema -> {
                 if (dbSchema != null) {
-                    transactInvokers.put(dbSchema, new TransactInvokerImpl(this,dbSchema));
+                    transactInvokers.put(dbSchema, new TransactInvokerImpl(this, dbSchema));
                 }
-            } catch (InterruptedException | ExecutionException e) {
-                LOG.warn("Exception attempting to createTransactionInvokers {}", connectionInfo, e);
-            }
+                return dbSchema;
+            }, MoreExecutors.directExecutor());
+            Futures.addCallback(transactInvokersFuture, new FutureCallback<DatabaseSchema>() {
+                @Override
+                public void onSuccess(DatabaseSchema dbSchema) {
+                    LOG.debug("Transact invokers created for {}", connectionInfo);
+                    applyPendingTransacts();
+                }
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    LOG.warn("Exception attempting to createTransactionInvokers {}", connectionInfo, throwable);
+                    applyPendingTransacts();
+                }
+            }, MoreExecutors.directExecutor());
         }
     }
 
-    private void monitorTables(String database, DatabaseSchema dbSchema) {
+    private ListenableFuture<Void> monitorTables(String database, DatabaseSchema dbSchema) {
         Set<String> tables = dbSchema.getTables();
         if (tables != null) {
             List<MonitorRequest> monitorRequests = new ArrayList<>();
@@ -182,9 +298,16 @@ public class OvsdbConnectionInstance {
                             .with(new MonitorSelect(true, true, true, true)).build());
                 }
             }
-            this.callback.update(monitor(dbSchema, monitorRequests, callback), dbSchema);
+            // the operational commands resolve the rows of one table against the rows of the others in the same
+            // update, so the initial contents are handed over as a whole, not with monitorInChunks
+            final MonitorCallBack monitorCallBack = this.callback;
+            return Futures.transform(monitorAsync(dbSchema, monitorRequests, monitorCallBack), tableUpdates -> {
+                monitorCallBack.update(tableUpdates, dbSchema);
+                return null;
+            }, MoreExecutors.directExecutor());
         } else {
             LOG.warn("No tables for schema {} for database {} for key {}",dbSchema,database,connectionInfo);
+            return Futures.immediateFuture(null);
         }
     }
 
@@ -249,12 +372,17 @@ public class OvsdbConnectionInstance {
         ListenableFuture<List<OperationResult>> result = txBuilder.execute();
         LOG.debug("invoke: tb: {}", txBuilder);
         if (txBuilder.getOperations().size() > 0) {
-            try {
-                List<OperationResult> got = result.get();
-                LOG.debug("OVSDB transaction result: {}", got);
-            } catch (InterruptedException | ExecutionException e) {
-                LOG.warn("Transact execution exception: ", e);
-            }
+            Futures.addCallback(result, new FutureCallback<List<OperationResult>>() {
+                @Override
+                public void onSuccess(List<OperationResult> got) {
+                    LOG.debug("OVSDB transaction result: {}", got);
+                }
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    LOG.warn("Transact execution exception: ", throwable);
+                }
+            }, MoreExecutors.directExecutor());
             LOG.trace("invoke exit tb: {}", txBuilder);
         }
     }
@@ -284,6 +412,11 @@ public class OvsdbConnectionInstance {
         return client.monitor(schema, monitorRequests, callbackArgument);
     }
 
+    public ListenableFuture<TableUpdates> monitorAsync(DatabaseSchema schema, List<MonitorRequest> monitorRequests,
+            MonitorCallBack callbackArgument) {
+        return client.monitorAsync(schema, monitorRequests, callbackArgument);
+    }
+
     public void cancelMonitor(MonitorHandle handler) {
         client.cancelMonitor(handler);
     }
@@ -306,6 +439,7 @@ public class OvsdbConnectionInstance {
     }
 
     public void disconnect() {
+        cancelBootstrap();
         client.disconnect();
     }
 
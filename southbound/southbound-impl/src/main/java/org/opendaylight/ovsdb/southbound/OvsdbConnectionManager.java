@@ -14,17 +14,27 @@ import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import java.net.ConnectException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
@@ -39,9 +49,11 @@ import org.opendaylight.controller.md.sal.common.api.clustering.EntityOwnershipS
 import org.opendaylight.controller.md.sal.common.api.clustering.EntityOwnershipState;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.ovsdb.lib.EchoServiceCallbackFilters;
 import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.opendaylight.ovsdb.lib.OvsdbConnection;
 import org.opendaylight.ovsdb.lib.OvsdbConnectionListener;
+import org.opendaylight.ovsdb.lib.impl.ReconnectScheduler;
 import org.opendaylight.ovsdb.lib.operations.Operation;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
 import org.opendaylight.ovsdb.lib.operations.Select;
@@ -72,6 +84,8 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
     private static final Logger LOG = LoggerFactory.getLogger(OvsdbConnectionManager.class);
     private static final String ENTITY_TYPE = "ovsdb";
     private static final int DB_FETCH_TIMEOUT = 1000;
+    public static final int DEFAULT_MAX_CONCURRENT_CONNECTS = 64;
+    public static final int DEFAULT_CONNECT_TIMEOUT_MILLIS = 10000;
 
     private final DataBroker db;
     private final TransactionInvoker txInvoker;
@@ -84,11 +98,31 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
     private final OvsdbConnection ovsdbConnection;
     private final ReconciliationManager reconciliationManager;
     private final InstanceIdentifierCodec instanceIdentifierCodec;
+    private final int maxConcurrentConnects;
+    private final int connectTimeoutMillis;
+    private volatile boolean echoServiceEnabled = true;
+    // connection attempts waiting for one of the maxConcurrentConnects slots, guarded by itself
+    private final Deque<BooleanSupplier> pendingConnects = new ArrayDeque<>();
+    private int activeConnects;
+    // completes the established connections off the network threads, one at a time
+    private final ExecutorService connectExecutor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("OVSDB-Connect-%d").setDaemon(true).build());
 
     public OvsdbConnectionManager(DataBroker db,TransactionInvoker txInvoker,
                                   EntityOwnershipService entityOwnershipService,
                                   OvsdbConnection ovsdbConnection,
                                   InstanceIdentifierCodec instanceIdentifierCodec) {
+        this(db, txInvoker, entityOwnershipService, ovsdbConnection, instanceIdentifierCodec,
+                DEFAULT_MAX_CONCURRENT_CONNECTS, DEFAULT_CONNECT_TIMEOUT_MILLIS);
+    }
+
+    public OvsdbConnectionManager(DataBroker db,TransactionInvoker txInvoker,
+                                  EntityOwnershipService entityOwnershipService,
+                                  OvsdbConnection ovsdbConnection,
+                                  InstanceIdentifierCodec instanceIdentifierCodec,
+                                  int maxConcurrentConnects, int connectTimeoutMillis) {
+        this.maxConcurrentConnects = maxConcurrentConnects;
+        this.connectTimeoutMillis = connectTimeoutMillis;
         this.db = db;
         this.txInvoker = txInvoker;
         this.entityOwnershipService = entityOwnershipService;
@@ -151,9 +185,25 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
         ovsdbConnectionInstance = new OvsdbConnectionInstance(key, externalClient, txInvoker,
                 getInstanceIdentifier(key));
         ovsdbConnectionInstance.createTransactInvokers();
+        if (echoServiceEnabled) {
+            externalClient.startEchoService(new EchoServiceCallbackFilters() {
+                @Override
+                public void echoMissed(int consecutiveMisses) {
+                    LOG.debug("OVSDB Connection {} missed {} echo probes in a row", key, consecutiveMisses);
+                }
+            });
+        }
         return ovsdbConnectionInstance;
     }
 
+    /**
+     * Sets whether the liveness of the connections is probed by their echo service, see
+     * {@link OvsdbClient#startEchoService(EchoServiceCallbackFilters)}, rather than by a fixed read timeout.
+     */
+    public void setEchoServiceEnabled(boolean echoServiceEnabled) {
+        this.echoServiceEnabled = echoServiceEnabled;
+    }
+
     @Override
     public void disconnected(OvsdbClient client) {
         LOG.info("Library disconnected {} from {}:{} to {}:{}. Cleaning up the operational data store",
@@ -170,6 +220,7 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
             // about to disconnect as well), if current owner get disconnected from
             // OVSDB device.
             unregisterEntityForOwnership(ovsdbConnectionInstance);
+            ovsdbConnectionInstance.cancelBootstrap();
 
             txInvoker.invoke(new OvsdbNodeRemoveCommand(ovsdbConnectionInstance, null, null));
 
@@ -198,21 +249,133 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
         InetAddress ip = SouthboundMapper.createInetAddress(ovsdbNode.getConnectionInfo().getRemoteIp());
         OvsdbClient client = ovsdbConnection.connect(ip,
                 ovsdbNode.getConnectionInfo().getRemotePort().getValue());
-        // For connections from the controller to the ovs instance, the library doesn't call
-        // this method for us
         if (client != null) {
-            putInstanceIdentifier(ovsdbNode.getConnectionInfo(), iid.firstIdentifierOf(Node.class));
-            OvsdbConnectionInstance ovsdbConnectionInstance = connectedButCallBacksNotRegistered(client);
-            ovsdbConnectionInstance.setOvsdbNodeAugmentation(ovsdbNode);
-
-            // Register Cluster Ownership for ConnectionInfo
-            registerEntityForOwnership(ovsdbConnectionInstance);
+            connectedActive(iid, ovsdbNode, client);
         } else {
             LOG.warn("Failed to connect to OVSDB Node {}", ovsdbNode.getConnectionInfo());
         }
         return client;
     }
 
+    /**
+     * Non-blocking variant of {@link #connect(InstanceIdentifier, OvsdbNodeAugmentation)}. At most
+     * maxConcurrentConnects connection attempts are in progress at any time, the others wait for their turn.
+     */
+    public ListenableFuture<OvsdbClient> connectAsync(final InstanceIdentifier<Node> iid,
+            final OvsdbNodeAugmentation ovsdbNode) throws UnknownHostException {
+        LOG.info("Connecting to {}", SouthboundUtil.connectionInfoToString(ovsdbNode.getConnectionInfo()));
+
+        final InetAddress ip = SouthboundMapper.createInetAddress(ovsdbNode.getConnectionInfo().getRemoteIp());
+        final int port = ovsdbNode.getConnectionInfo().getRemotePort().getValue();
+        final SettableFuture<OvsdbClient> result = SettableFuture.create();
+        submitConnectAttempt(() -> startConnectAttempt(iid, ovsdbNode, ip, port, result));
+        return result;
+    }
+
+    /**
+     * Starts a connection attempt holding a slot, which is released once the attempt completes.
+     *
+     * @return false if the attempt failed right away, its slot can be used by another one
+     */
+    private boolean startConnectAttempt(InstanceIdentifier<Node> iid, OvsdbNodeAugmentation ovsdbNode,
+            InetAddress ip, int port, SettableFuture<OvsdbClient> result) {
+        ListenableFuture<OvsdbClient> connectFuture;
+        try {
+            connectFuture = ovsdbConnection.connectAsync(ip, port, connectTimeoutMillis);
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to connect to OVSDB Node {}", ovsdbNode.getConnectionInfo(), e);
+            result.setException(e);
+            return false;
+        }
+        connectFuture.addListener(() -> {
+            try {
+                connectExecutor.execute(() -> completeConnectAttempt(iid, ovsdbNode, connectFuture, result));
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Connection to OVSDB Node {} completed while closing", ovsdbNode.getConnectionInfo());
+                try {
+                    disconnectQuietly(connectFuture);
+                    result.setException(e);
+                } finally {
+                    releaseConnectSlot();
+                }
+            }
+        }, MoreExecutors.directExecutor());
+        return true;
+    }
+
+    private void completeConnectAttempt(InstanceIdentifier<Node> iid, OvsdbNodeAugmentation ovsdbNode,
+            ListenableFuture<OvsdbClient> connectFuture, SettableFuture<OvsdbClient> result) {
+        try {
+            OvsdbClient client = Futures.getDone(connectFuture);
+            try {
+                connectedActive(iid, ovsdbNode, client);
+            } catch (RuntimeException e) {
+                client.disconnect();
+                throw e;
+            }
+            LOG.info("OVSDB node has been connected: {}", ovsdbNode);
+            result.set(client);
+        } catch (ExecutionException e) {
+            LOG.warn("Failed to connect to OVSDB Node {}", ovsdbNode.getConnectionInfo(), e.getCause());
+            result.setException(e.getCause());
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to set up the connection to OVSDB Node {}", ovsdbNode.getConnectionInfo(), e);
+            result.setException(e);
+        } finally {
+            releaseConnectSlot();
+        }
+    }
+
+    private static void disconnectQuietly(ListenableFuture<OvsdbClient> connectFuture) {
+        try {
+            Futures.getDone(connectFuture).disconnect();
+        } catch (ExecutionException | RuntimeException e) {
+            LOG.trace("No connection to close", e);
+        }
+    }
+
+    private void submitConnectAttempt(BooleanSupplier attempt) {
+        synchronized (pendingConnects) {
+            if (activeConnects >= maxConcurrentConnects) {
+                pendingConnects.add(attempt);
+                return;
+            }
+            activeConnects++;
+        }
+        if (!attempt.getAsBoolean()) {
+            releaseConnectSlot();
+        }
+    }
+
+    private void releaseConnectSlot() {
+        while (true) {
+            BooleanSupplier next;
+            synchronized (pendingConnects) {
+                next = pendingConnects.poll();
+                if (next == null) {
+                    activeConnects--;
+                    return;
+                }
+            }
+            // the slot goes straight to the next attempt, or the one after if it fails right away
+            if (next.getAsBoolean()) {
+                return;
+            }
+        }
+    }
+
+    private void connectedActive(InstanceIdentifier<Node> iid, OvsdbNodeAugmentation ovsdbNode,
+            OvsdbClient client) {
+        // For connections from the controller to the ovs instance, the library doesn't call
+        // this method for us
+        putInstanceIdentifier(ovsdbNode.getConnectionInfo(), iid.firstIdentifierOf(Node.class));
+        OvsdbConnectionInstance ovsdbConnectionInstance = connectedButCallBacksNotRegistered(client);
+        ovsdbConnectionInstance.setOvsdbNodeAugmentation(ovsdbNode);
+
+        // Register Cluster Ownership for ConnectionInfo
+        registerEntityForOwnership(ovsdbConnectionInstance);
+    }
+
     public void disconnect(OvsdbNodeAugmentation ovsdbNode) throws UnknownHostException {
         LOG.info("Disconnecting from {}", SouthboundUtil.connectionInfoToString(ovsdbNode.getConnectionInfo()));
         OvsdbConnectionInstance client = getConnectionInstance(ovsdbNode.getConnectionInfo());
@@ -253,6 +416,7 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
         for (OvsdbConnectionInstance client: clients.values()) {
             client.disconnect();
         }
+        connectExecutor.shutdown();
     }
 
     private void putConnectionInstance(ConnectionInfo key,OvsdbConnectionInstance instance) {
@@ -364,6 +528,8 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
                 iid,
                 ovsdbNode);
         reconciliationManager.dequeue(task);
+        // the node is no longer reconnected to, forget its failed attempts
+        ReconnectScheduler.getInstance().reset(iid);
     }
 
     public void stopBridgeConfigReconciliationIfActive(InstanceIdentifier<?> iid) {
@@ -408,6 +574,10 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
                     ovsdbConnectionInstance.getConnectionInfo(), ovsdbConnectionInstance.getHasDeviceOwnership()
                             ? SouthboundConstants.OwnershipStates.OWNER.getState()
                             : SouthboundConstants.OwnershipStates.NONOWNER.getState());
+            if (!ownershipChange.isOwner()) {
+                // the owner monitors the device, nothing more to fetch here
+                ovsdbConnectionInstance.bootstrapComplete();
+            }
             return;
         }
 
@@ -418,10 +588,20 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
                     ovsdbConnectionInstance.getConnectionInfo());
 
             //*this* instance of southbound plugin is owner of the device,
-            //so register for monitor callbacks
-            ovsdbConnectionInstance.registerCallbacks(instanceIdentifierCodec);
+            //so register for monitor callbacks, and reconcile the bridges once the initial dump is processed
+            Futures.addCallback(ovsdbConnectionInstance.registerCallbacks(instanceIdentifierCodec),
+                    new FutureCallback<Void>() {
+                        @Override
+                        public void onSuccess(Void result) {
+                            reconcileBridgeConfigurations(ovsdbConnectionInstance);
+                        }
 
-            reconcileBridgeConfigurations(ovsdbConnectionInstance);
+                        @Override
+                        public void onFailure(Throwable throwable) {
+                            LOG.warn("Bootstrap of {} failed, not reconciling its bridges",
+                                    ovsdbConnectionInstance.getConnectionInfo(), throwable);
+                        }
+                    }, MoreExecutors.directExecutor());
         } else {
             //You were owner of the device, but now you are not. With the current ownership
             //grant mechanism, this scenario should not occur. Because this scenario will occur
@@ -588,7 +768,8 @@ public class OvsdbConnectionManager implements OvsdbConnectionListener, AutoClos
                         if (node.isPresent()) {
                             LOG.info("Disconnected/Failed connection {} was controller initiated, attempting "
                                     + "reconnection", ovsdbNode.getConnectionInfo());
-                            reconciliationManager.enqueue(task);
+                            // after a jittered delay, so that the nodes lost together do not reconnect together
+                            reconciliationManager.enqueueForRetry(task);
 
                         } else {
                             LOG.debug("Connection {} was switch initiated, no reconciliation is required",
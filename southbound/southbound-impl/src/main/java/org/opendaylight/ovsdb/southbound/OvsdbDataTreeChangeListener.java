@@ -8,7 +8,6 @@
 
 package org.opendaylight.ovsdb.southbound;
 
-import java.net.ConnectException;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -123,9 +122,9 @@ public class OvsdbDataTreeChangeListener implements ClusteredDataTreeChangeListe
                     } else {
                         try {
                             InstanceIdentifier<Node> instanceIdentifier = change.getRootPath().getRootIdentifier();
-                            cm.connect(instanceIdentifier, ovsdbNode);
-                            LOG.info("OVSDB node has been connected: {}",ovsdbNode);
-                        } catch (UnknownHostException | ConnectException e) {
+                            // the connection completes in the background, along with the other nodes configured
+                            cm.connectAsync(instanceIdentifier, ovsdbNode);
+                        } catch (UnknownHostException e) {
                             LOG.warn("Failed to connect to ovsdbNode", e);
                         }
                     }
@@ -194,9 +193,9 @@ public class OvsdbDataTreeChangeListener implements ClusteredDataTreeChangeListe
                         if (ovsdbNodeModification.getDataBefore() != null) {
                             try {
                                 cm.disconnect(ovsdbNodeModification.getDataBefore());
-                                cm.connect(change.getRootPath().getRootIdentifier(), ovsdbNodeModification
+                                cm.connectAsync(change.getRootPath().getRootIdentifier(), ovsdbNodeModification
                                         .getDataAfter());
-                            } catch (UnknownHostException | ConnectException e) {
+                            } catch (UnknownHostException e) {
                                 LOG.warn("Error disconnecting from or connecting to ovsdbNode", e);
                             }
                         }
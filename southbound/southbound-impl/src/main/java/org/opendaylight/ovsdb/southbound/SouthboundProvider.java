@@ -25,6 +25,7 @@ import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingNormalizedNodeSerializer;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
+import org.opendaylight.ovsdb.lib.BacklogThrottle;
 import org.opendaylight.ovsdb.lib.OvsdbConnection;
 import org.opendaylight.ovsdb.southbound.transactions.md.TransactionInvoker;
 import org.opendaylight.ovsdb.southbound.transactions.md.TransactionInvokerImpl;
@@ -55,6 +56,11 @@ public class SouthboundProvider implements AutoCloseable {
     private final OvsdbConnection ovsdbConnection;
     private final InstanceIdentifierCodec instanceIdentifierCodec;
     private static final String SKIP_MONITORING_MANAGER_STATUS_PARAM = "skip-monitoring-manager-status";
+    private int transactionBacklogHighWatermark = BacklogThrottle.DEFAULT_HIGH_WATERMARK;
+    private int transactionBacklogLowWatermark = BacklogThrottle.DEFAULT_LOW_WATERMARK;
+    private int maxConcurrentConnects = OvsdbConnectionManager.DEFAULT_MAX_CONCURRENT_CONNECTS;
+    private int connectTimeoutMillis = OvsdbConnectionManager.DEFAULT_CONNECT_TIMEOUT_MILLIS;
+    private boolean echoServiceEnabled = true;
 
     public SouthboundProvider(final DataBroker dataBroker,
             final EntityOwnershipService entityOwnershipServiceDependency,
@@ -76,8 +82,11 @@ public class SouthboundProvider implements AutoCloseable {
      */
     public void init() {
         LOG.info("SouthboundProvider Session Initiated");
-        this.txInvoker = new TransactionInvokerImpl(db);
-        cm = new OvsdbConnectionManager(db,txInvoker,entityOwnershipService, ovsdbConnection, instanceIdentifierCodec);
+        this.txInvoker = new TransactionInvokerImpl(db, transactionBacklogHighWatermark,
+                transactionBacklogLowWatermark);
+        cm = new OvsdbConnectionManager(db,txInvoker,entityOwnershipService, ovsdbConnection, instanceIdentifierCodec,
+                maxConcurrentConnects, connectTimeoutMillis);
+        cm.setEchoServiceEnabled(echoServiceEnabled);
         ovsdbDataTreeChangeListener = new OvsdbDataTreeChangeListener(db, cm, instanceIdentifierCodec);
 
         //Register listener for entityOnwership changes
@@ -183,6 +192,51 @@ public class SouthboundProvider implements AutoCloseable {
         }
     }
 
+    /**
+     * Sets the transaction backlog past which reading from the switches sending updates is suspended. Only
+     * configured at start up.
+     */
+    public void setTransactionBacklogHighWatermark(int highWatermark) {
+        LOG.debug("transactionBacklogHighWatermark set to {}", highWatermark);
+        this.transactionBacklogHighWatermark = highWatermark;
+    }
+
+    /**
+     * Sets the transaction backlog below which reading from the suspended switches is resumed. Only configured
+     * at start up.
+     */
+    public void setTransactionBacklogLowWatermark(int lowWatermark) {
+        LOG.debug("transactionBacklogLowWatermark set to {}", lowWatermark);
+        this.transactionBacklogLowWatermark = lowWatermark;
+    }
+
+    /**
+     * Sets the number of connections to configured nodes attempted at the same time. Only configured at start
+     * up.
+     */
+    public void setMaxConcurrentConnects(int maxConcurrentConnects) {
+        LOG.debug("maxConcurrentConnects set to {}", maxConcurrentConnects);
+        this.maxConcurrentConnects = maxConcurrentConnects;
+    }
+
+    /**
+     * Sets the time allowed to establish a connection to a configured node, in milliseconds. Only configured at
+     * start up.
+     */
+    public void setConnectTimeout(int connectTimeoutMillis) {
+        LOG.debug("connectTimeout set to {}", connectTimeoutMillis);
+        this.connectTimeoutMillis = connectTimeoutMillis;
+    }
+
+    /**
+     * Sets whether the liveness of the connections is probed by the echo service of the library. Only configured
+     * at start up.
+     */
+    public void setEchoServiceEnabled(boolean echoServiceEnabled) {
+        LOG.debug("echoServiceEnabled set to {}", echoServiceEnabled);
+        this.echoServiceEnabled = echoServiceEnabled;
+    }
+
     public void setSkipMonitoringManagerStatus(boolean flag) {
         LOG.debug("skipManagerStatus set to {}", flag);
         if (flag) {
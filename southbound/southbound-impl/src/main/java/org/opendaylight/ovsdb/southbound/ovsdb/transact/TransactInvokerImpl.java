@@ -15,6 +15,7 @@ import java.util.concurrent.ExecutionException;
 
 import org.opendaylight.controller.md.sal.binding.api.DataTreeModification;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeEvent;
+import org.opendaylight.ovsdb.lib.error.ConnectionBusyException;
 import org.opendaylight.ovsdb.lib.operations.OperationResult;
 import org.opendaylight.ovsdb.lib.operations.TransactionBuilder;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
@@ -64,7 +65,15 @@ public class TransactInvokerImpl implements TransactInvoker {
                 } else {
                     LOG.debug("Operation task cancelled for transaction : {}", tb);
                 }
-            } catch (InterruptedException | ExecutionException | CancellationException e) {
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ConnectionBusyException) {
+                    // not sent at all, the switch is not keeping up with the requests already sent to it
+                    LOG.warn("Transaction not sent to {}: {}", connectionInstance.getConnectionInfo(),
+                            e.getCause().getMessage());
+                } else {
+                    LOG.warn("Transact execution exception: ", e);
+                }
+            } catch (InterruptedException | CancellationException e) {
                 LOG.warn("Transact execution exception: ", e);
             }
             LOG.trace("invoke exit command: {}, tb: {}", command, tb);
@@ -11,6 +11,7 @@ import java.net.ConnectException;
 import java.net.UnknownHostException;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.opendaylight.ovsdb.lib.OvsdbClient;
+import org.opendaylight.ovsdb.lib.impl.ReconnectScheduler;
 import org.opendaylight.ovsdb.southbound.OvsdbConnectionManager;
 import org.opendaylight.ovsdb.southbound.reconciliation.ReconciliationManager;
 import org.opendaylight.ovsdb.southbound.reconciliation.ReconciliationTask;
@@ -25,10 +26,12 @@ public class ConnectionReconciliationTask extends ReconciliationTask {
 
     private static final Logger LOG = LoggerFactory.getLogger(ConnectionReconciliationTask.class);
 
-    private static final int RETRY_INTERVAL_FACTOR = 10000;
     private static final int MAX_ATTEMPT = 10;
+    private static final ReconnectScheduler RECONNECT_SCHEDULER = ReconnectScheduler.getInstance();
 
     private AtomicInteger connectionAttempt = new AtomicInteger(0);
+    // set when the last run could not start its attempt because too many were in flight
+    private volatile boolean deferred;
 
     public ConnectionReconciliationTask(ReconciliationManager reconciliationManager, OvsdbConnectionManager
             connectionManager, InstanceIdentifier<?> nodeIid, DataObject configData) {
@@ -39,6 +42,11 @@ public class ConnectionReconciliationTask extends ReconciliationTask {
     @Override
     public boolean reconcileConfiguration(OvsdbConnectionManager connectionManagerOfDevice) {
         boolean result = false;
+        deferred = !RECONNECT_SCHEDULER.tryStartAttempt();
+        if (deferred) {
+            LOG.debug("Too many connection attempts in flight, deferring {}", nodeIid);
+            return result;
+        }
         connectionAttempt.incrementAndGet();
         InstanceIdentifier<Node> ndIid = (InstanceIdentifier<Node>) nodeIid;
         OvsdbNodeAugmentation ovsdbNode = (OvsdbNodeAugmentation)configData;
@@ -49,6 +57,7 @@ public class ConnectionReconciliationTask extends ReconciliationTask {
             client = connectionManagerOfDevice.connect(ndIid, ovsdbNode);
             if (client != null) {
                 LOG.info("Successfully connected to Ovsdb Node {} ", ovsdbNode.getConnectionInfo());
+                RECONNECT_SCHEDULER.reset(nodeIid);
                 result = true;
             } else {
                 LOG.warn("Connection retry({}) failed for {}.",
@@ -56,6 +65,8 @@ public class ConnectionReconciliationTask extends ReconciliationTask {
             }
         } catch (UnknownHostException | ConnectException e) {
             LOG.warn("Connection retry({}) failed with exception. ",connectionAttempt.get(), e);
+        } finally {
+            RECONNECT_SCHEDULER.endAttempt();
         }
         return result;
     }
@@ -66,6 +77,9 @@ public class ConnectionReconciliationTask extends ReconciliationTask {
         if (!wasLastAttemptSuccessful && connectionAttempt.get() <= MAX_ATTEMPT) {
             reconciliationManager.enqueueForRetry(ConnectionReconciliationTask.this);
         } else {
+            if (!wasLastAttemptSuccessful) {
+                RECONNECT_SCHEDULER.reset(nodeIid);
+            }
             reconciliationManager.dequeue(this);
         }
     }
@@ -77,6 +91,12 @@ public class ConnectionReconciliationTask extends ReconciliationTask {
 
     @Override
     public long retryDelayInMills() {
-        return connectionAttempt.get() * RETRY_INTERVAL_FACTOR;
+        if (deferred) {
+            return RECONNECT_SCHEDULER.deferralDelayMillis();
+        }
+        // exponential backoff with jitter, shared with the other nodes so that they do not all retry together;
+        // nothing has failed yet before the first attempt
+        return connectionAttempt.get() == 0 ? RECONNECT_SCHEDULER.firstDelayMillis()
+                : RECONNECT_SCHEDULER.nextDelayMillis(nodeIid);
     }
 }
@@ -8,9 +8,20 @@
 
 package org.opendaylight.ovsdb.southbound.transactions.md;
 
+import org.opendaylight.ovsdb.lib.OvsdbClient;
+
 public interface TransactionInvoker {
 
     void invoke(TransactionCommand command);
 
+    /**
+     * Invokes a command carrying the updates read from a connection. While the invoker is backlogged, reading
+     * from the connections whose commands keep coming is suspended, until the backlog is worked off.
+     *
+     * @param command the command to invoke
+     * @param source the connection the updates were read from, may be null
+     */
+    void invoke(TransactionCommand command, OvsdbClient source);
+
     void close() throws InterruptedException;
 }
@@ -28,6 +28,8 @@ import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChain;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.opendaylight.ovsdb.lib.BacklogThrottle;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,9 +37,12 @@ import org.slf4j.LoggerFactory;
 public class TransactionInvokerImpl implements TransactionInvoker,TransactionChainListener, Runnable, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(TransactionInvokerImpl.class);
     private static final int QUEUE_SIZE = 10000;
+    // how often the backlog is checked while reading is suspended and no command comes in
+    private static final long BACKLOG_CHECK_INTERVAL_MS = 100;
     private BindingTransactionChain chain;
     private DataBroker db;
-    private BlockingQueue<TransactionCommand> inputQueue = new LinkedBlockingQueue<>(QUEUE_SIZE);
+    // kept short by the throttle, past its watermarks reading from the sources is suspended
+    private BlockingQueue<TransactionCommand> inputQueue;
     private BlockingQueue<ReadWriteTransaction> successfulTransactionQueue
         = new LinkedBlockingQueue<>(QUEUE_SIZE);
     private BlockingQueue<AsyncTransaction<?, ?>> failedTransactionQueue
@@ -47,8 +52,22 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
         = new HashMap<>();
     private List<ReadWriteTransaction> pendingTransactions = new ArrayList<>();
     private final AtomicBoolean runTask = new AtomicBoolean(true);
+    private final BacklogThrottle throttle;
+    // published by the invoker thread, for the backlog to be computed on the callers' side
+    private volatile int pendingTransactionCount;
 
     public TransactionInvokerImpl(DataBroker db) {
+        this(db, BacklogThrottle.DEFAULT_HIGH_WATERMARK, BacklogThrottle.DEFAULT_LOW_WATERMARK);
+    }
+
+    /**
+     * Creates an invoker which suspends reading from the connections submitting updates once its backlog, the
+     * commands queued plus the transactions submitted but not yet committed, reaches the high watermark, and
+     * resumes reading once the backlog is down to the low watermark.
+     */
+    public TransactionInvokerImpl(DataBroker db, int highWatermark, int lowWatermark) {
+        this.throttle = new BacklogThrottle(highWatermark, lowWatermark, this::getBacklog);
+        this.inputQueue = new LinkedBlockingQueue<>();
         this.db = db;
         this.chain = db.createTransactionChain(this);
         ThreadFactory threadFact = new ThreadFactoryBuilder().setNameFormat("transaction-invoker-impl-%d").build();
@@ -58,8 +77,21 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
 
     @Override
     public void invoke(final TransactionCommand command) {
-        // TODO what do we do if queue is full?
+        // called from the I/O threads, which must never block: the updates still coming from the suspended sources
+        // are always queued, past the expected maximum a warning is logged
         inputQueue.offer(command);
+        throttle.checkOverflow();
+    }
+
+    @Override
+    public void invoke(final TransactionCommand command, final OvsdbClient source) {
+        throttle.throttle(source);
+        // queued after the source is recorded, the invoker looks at the backlog again once the command is processed
+        invoke(command);
+    }
+
+    private int getBacklog() {
+        return inputQueue.size() + pendingTransactionCount;
     }
 
     @Override
@@ -77,6 +109,7 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
     public void run() {
         while (runTask.get()) {
             forgetSuccessfulTransactions();
+            throttle.resumeIfDrained();
 
             List<TransactionCommand> commands = null;
             try {
@@ -137,6 +170,7 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
         chain.close();
         chain = db.createTransactionChain(this);
         pendingTransactions = new ArrayList<>();
+        pendingTransactionCount = 0;
         transactionToCommand = new HashMap<>();
         failedTransactionQueue.clear();
         successfulTransactionQueue.clear();
@@ -146,6 +180,7 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
             final ReadWriteTransaction transaction) {
         transactionToCommand.put(transaction, command);
         pendingTransactions.add(transaction);
+        pendingTransactionCount = pendingTransactions.size();
     }
 
     private List<TransactionCommand> extractCommands() throws InterruptedException {
@@ -156,7 +191,13 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
 
     private List<TransactionCommand> extractCommandsFromQueue() throws InterruptedException {
         List<TransactionCommand> result = new ArrayList<>();
-        TransactionCommand command = inputQueue.take();
+        TransactionCommand command;
+        if (throttle.hasSuspendedSources()) {
+            // committed transactions do not wake us up, poll to notice the backlog going down
+            command = inputQueue.poll(BACKLOG_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        } else {
+            command = inputQueue.take();
+        }
         while (command != null) {
             result.add(command);
             command = inputQueue.poll();
@@ -171,6 +212,7 @@ public class TransactionInvokerImpl implements TransactionInvoker,TransactionCha
             transactionToCommand.remove(transaction);
             transaction = successfulTransactionQueue.poll();
         }
+        pendingTransactionCount = pendingTransactions.size();
     }
 
     @Override
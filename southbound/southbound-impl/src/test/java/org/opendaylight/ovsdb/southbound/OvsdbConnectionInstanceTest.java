@@ -15,14 +15,18 @@ import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.support.membermodification.MemberMatcher.field;
 import static org.powermock.api.support.membermodification.MemberModifier.suppress;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -32,6 +36,7 @@ import java.util.Set;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeEvent;
@@ -50,6 +55,7 @@ import org.opendaylight.ovsdb.lib.schema.GenericTableSchema;
 import org.opendaylight.ovsdb.southbound.ovsdb.transact.BridgeOperationalState;
 import org.opendaylight.ovsdb.southbound.ovsdb.transact.TransactCommand;
 import org.opendaylight.ovsdb.southbound.ovsdb.transact.TransactInvoker;
+import org.opendaylight.ovsdb.southbound.ovsdb.transact.TransactInvokerImpl;
 import org.opendaylight.ovsdb.southbound.transactions.md.TransactionInvoker;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.ovsdb.rev150105.ovsdb.node.attributes.ConnectionInfo;
 import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.NodeId;
@@ -118,6 +124,7 @@ public class OvsdbConnectionInstanceTest {
 
         // callback null case
         MemberModifier.field(OvsdbConnectionInstance.class, "callback").set(ovsdbConnectionInstance , null);
+        MemberModifier.field(OvsdbConnectionInstance.class, "client").set(ovsdbConnectionInstance, client);
         ListenableFuture<List<String>> listenableFuture = mock(ListenableFuture.class);
         List<String> databases = new ArrayList<>();
         databases.add("Open_vSwitch");
@@ -125,16 +132,15 @@ public class OvsdbConnectionInstanceTest {
         doReturn(listenableFuture).when(ovsdbConnectionInstance).getDatabases();
         when(listenableFuture.get()).thenReturn(databases);
 
-        ListenableFuture<DatabaseSchema> listenableDbSchema = mock(ListenableFuture.class);
         DatabaseSchema dbSchema = mock(DatabaseSchema.class);
-        doReturn(listenableDbSchema).when(ovsdbConnectionInstance).getSchema(anyString());
-        when(listenableDbSchema.get()).thenReturn(dbSchema);
+        doReturn(Futures.immediateFuture(dbSchema)).when(ovsdbConnectionInstance).getSchema(anyString());
 
-        suppress(MemberMatcher.method(OvsdbConnectionInstance.class, "monitorTables", String.class,
-                DatabaseSchema.class));
+        PowerMockito.doReturn(Futures.immediateFuture(null)).when(ovsdbConnectionInstance, "monitorTables",
+                anyString(), any(DatabaseSchema.class));
         ovsdbConnectionInstance.registerCallbacks(instanceIdentifierCodec);
         PowerMockito.verifyPrivate(ovsdbConnectionInstance, times(1)).invoke("monitorTables", anyString(),
                 any(DatabaseSchema.class));
+        verify(client).bootstrapComplete();
     }
 
     @Test
@@ -149,10 +155,8 @@ public class OvsdbConnectionInstanceTest {
         // transactInvokers null case
         MemberModifier.field(OvsdbConnectionInstance.class, "transactInvokers").set(ovsdbConnectionInstance , null);
 
-        ListenableFuture<DatabaseSchema> listenableDbSchema = mock(ListenableFuture.class);
         DatabaseSchema dbSchema = mock(DatabaseSchema.class);
-        doReturn(listenableDbSchema).when(ovsdbConnectionInstance).getSchema(anyString());
-        when(listenableDbSchema.get()).thenReturn(dbSchema);
+        doReturn(Futures.immediateFuture(dbSchema)).when(ovsdbConnectionInstance).getSchema(anyString());
 
         ovsdbConnectionInstance.createTransactInvokers();
         verify(ovsdbConnectionInstance).getSchema(anyString());
@@ -162,6 +166,32 @@ public class OvsdbConnectionInstanceTest {
         assertEquals("Error, size of the hashmap is incorrect", 1, testTransactInvokers.size());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTransactBeforeSchema() throws Exception {
+        SettableFuture<DatabaseSchema> schemaFuture = SettableFuture.create();
+        doReturn(schemaFuture).when(ovsdbConnectionInstance).getSchema(anyString());
+        TransactInvokerImpl transactInvoker = mock(TransactInvokerImpl.class);
+        PowerMockito.whenNew(TransactInvokerImpl.class).withAnyArguments().thenReturn(transactInvoker);
+        ovsdbConnectionInstance.createTransactInvokers();
+
+        TransactCommand early = mock(TransactCommand.class);
+        TransactCommand late = mock(TransactCommand.class);
+        ovsdbConnectionInstance.transact(early, mock(BridgeOperationalState.class), mock(AsyncDataChangeEvent.class),
+                mock(InstanceIdentifierCodec.class));
+        verifyZeroInteractions(transactInvoker);
+
+        // queued until the schema is fetched, then applied before the transacts which follow
+        schemaFuture.set(mock(DatabaseSchema.class));
+        ovsdbConnectionInstance.transact(late, mock(BridgeOperationalState.class), mock(AsyncDataChangeEvent.class),
+                mock(InstanceIdentifierCodec.class));
+        InOrder inOrder = inOrder(transactInvoker);
+        inOrder.verify(transactInvoker).invoke(eq(early), any(BridgeOperationalState.class),
+                any(AsyncDataChangeEvent.class), any(InstanceIdentifierCodec.class));
+        inOrder.verify(transactInvoker).invoke(eq(late), any(BridgeOperationalState.class),
+                any(AsyncDataChangeEvent.class), any(InstanceIdentifierCodec.class));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testMonitorAllTables() throws Exception {
@@ -181,17 +211,18 @@ public class OvsdbConnectionInstanceTest {
         columns.add("statistics");
         when(tableSchema.getColumns()).thenReturn(columns);
 
-        suppress(MemberMatcher.method(OvsdbConnectionInstance.class, "monitor", DatabaseSchema.class, List.class,
-                MonitorCallBack.class));
+        suppress(MemberMatcher.method(OvsdbConnectionInstance.class, "monitorAsync", DatabaseSchema.class,
+                List.class, MonitorCallBack.class));
         TableUpdates tableUpdates = mock(TableUpdates.class);
-        when(ovsdbConnectionInstance.monitor(any(DatabaseSchema.class), any(List.class), any(MonitorCallBack.class)))
-                .thenReturn(tableUpdates);
+        when(ovsdbConnectionInstance.monitorAsync(any(DatabaseSchema.class), any(List.class),
+                any(MonitorCallBack.class))).thenReturn(Futures.immediateFuture(tableUpdates));
         MemberModifier.field(OvsdbConnectionInstance.class, "callback").set(ovsdbConnectionInstance, callback);
         doNothing().when(callback).update(any(TableUpdates.class), any(DatabaseSchema.class));
 
         Whitebox.invokeMethod(ovsdbConnectionInstance, "monitorTables", "database", dbSchema);
         PowerMockito.verifyPrivate(ovsdbConnectionInstance, times(1)).invoke("monitorTables", anyString(),
                 any(DatabaseSchema.class));
+        verify(callback).update(tableUpdates, dbSchema);
     }
 
     @SuppressWarnings({ "unchecked" })
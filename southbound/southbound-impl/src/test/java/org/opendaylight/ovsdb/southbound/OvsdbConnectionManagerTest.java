@@ -9,9 +9,13 @@
 package org.opendaylight.ovsdb.southbound;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,11 +25,19 @@ import static org.powermock.api.support.membermodification.MemberModifier.suppre
 
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.net.ConnectException;
 import java.net.InetAddress;
+import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -85,6 +97,7 @@ public class OvsdbConnectionManagerTest {
         field(OvsdbConnectionManager.class, "entityOwnershipService").set(ovsdbConnManager, entityOwnershipService);
         field(OvsdbConnectionManager.class, "reconciliationManager").set(ovsdbConnManager, reconciliationManager);
         field(OvsdbConnectionManager.class, "ovsdbConnection").set(ovsdbConnManager, ovsdbConnection);
+        field(OvsdbConnectionManager.class, "connectExecutor").set(ovsdbConnManager, mock(ExecutorService.class));
         entityConnectionMap = new ConcurrentHashMap<>();
 
         externalClient = mock(OvsdbClient.class, Mockito.RETURNS_DEEP_STUBS);
@@ -105,7 +118,7 @@ public class OvsdbConnectionManagerTest {
         suppress(MemberMatcher.method(OvsdbConnectionManager.class, "connectedButCallBacksNotRegistered",
                 OvsdbClient.class));
         when(ovsdbConnManager.connectedButCallBacksNotRegistered(any(OvsdbClient.class))).thenReturn(client);
-        doNothing().when(client).registerCallbacks(any());
+        doReturn(Futures.immediateFuture(null)).when(client).registerCallbacks(any());
 
         //TODO: Write unit tests for EntityOwnershipService
         InstanceIdentifier<Node> iid = mock(InstanceIdentifier.class);
@@ -361,6 +374,65 @@ public class OvsdbConnectionManagerTest {
         assertEquals("ERROR", client, ovsdbConnManager.connect(PowerMockito.mock(InstanceIdentifier.class), ovsdbNode));
     }
 
+    /**
+     * Test that at most maxConcurrentConnects connection attempts are in progress, the next one starting as soon
+     * as a slot is released, and that attempts failing right away or while setting up the connection release
+     * their slot and complete their result.
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testConnectAsyncBoundedQueue() throws Exception {
+        field(OvsdbConnectionManager.class, "maxConcurrentConnects").set(ovsdbConnManager, 1);
+        field(OvsdbConnectionManager.class, "connectTimeoutMillis").set(ovsdbConnManager, 1000);
+        field(OvsdbConnectionManager.class, "pendingConnects").set(ovsdbConnManager, new ArrayDeque<>());
+        field(OvsdbConnectionManager.class, "connectExecutor").set(ovsdbConnManager,
+                MoreExecutors.newDirectExecutorService());
+
+        OvsdbNodeAugmentation ovsdbNode = mock(OvsdbNodeAugmentation.class);
+        ConnectionInfo connectionInfo = mock(ConnectionInfo.class);
+        when(ovsdbNode.getConnectionInfo()).thenReturn(connectionInfo);
+        when(connectionInfo.getRemoteIp()).thenReturn(mock(IpAddress.class));
+        PortNumber port = mock(PortNumber.class);
+        when(connectionInfo.getRemotePort()).thenReturn(port);
+        when(port.getValue()).thenReturn(6640);
+        PowerMockito.mockStatic(SouthboundMapper.class);
+        when(SouthboundMapper.createInetAddress(any(IpAddress.class))).thenReturn(mock(InetAddress.class));
+        PowerMockito.doThrow(new IllegalStateException("not set up")).when(ovsdbConnManager, "putInstanceIdentifier",
+                any(ConnectionInfo.class), any(InstanceIdentifier.class));
+
+        SettableFuture<OvsdbClient> first = SettableFuture.create();
+        SettableFuture<OvsdbClient> third = SettableFuture.create();
+        when(ovsdbConnection.connectAsync(any(InetAddress.class), anyInt(), anyInt()))
+                .thenReturn(first)
+                .thenThrow(new IllegalStateException("no event loop"))
+                .thenReturn(third);
+
+        ListenableFuture<OvsdbClient> result1 = ovsdbConnManager.connectAsync(iid, ovsdbNode);
+        ListenableFuture<OvsdbClient> result2 = ovsdbConnManager.connectAsync(iid, ovsdbNode);
+        ListenableFuture<OvsdbClient> result3 = ovsdbConnManager.connectAsync(iid, ovsdbNode);
+        verify(ovsdbConnection, times(1)).connectAsync(any(InetAddress.class), anyInt(), anyInt());
+        assertFalse(result2.isDone());
+
+        // the slot released by the failed first attempt goes to the second one, then the third one
+        first.setException(new ConnectException("Connection refused"));
+        assertTrue(result1.isDone());
+        assertTrue(result2.isDone());
+        verify(ovsdbConnection, times(3)).connectAsync(any(InetAddress.class), anyInt(), anyInt());
+        assertFalse(result3.isDone());
+
+        OvsdbClient client = mock(OvsdbClient.class);
+        third.set(client);
+        assertTrue(result3.isDone());
+        verify(client).disconnect();
+        try {
+            result3.get();
+            fail("Expected the connection set up to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(0, (int) Whitebox.getInternalState(ovsdbConnManager, "activeConnects"));
+    }
+
     @Test
     public void testHandleOwnershipChanged() throws Exception {
         Entity entity = new Entity("entityType", "entityName");
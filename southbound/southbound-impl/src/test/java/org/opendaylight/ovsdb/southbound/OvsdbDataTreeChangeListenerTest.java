@@ -9,6 +9,7 @@ package org.opendaylight.ovsdb.southbound;
 
 import static org.mockito.Mockito.mock;
 
+import com.google.common.util.concurrent.SettableFuture;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.concurrent.ExecutionException;
@@ -41,6 +42,8 @@ public class OvsdbDataTreeChangeListenerTest extends AbstractDataBrokerTest {
 
     @Before
     public void setupListener() {
+        Mockito.when(ovsdbConnection.connectAsync(Mockito.any(InetAddress.class), Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(SettableFuture.create());
         dataBroker = getDataBroker();
         EntityOwnershipService entityOwnershipService = mock(EntityOwnershipService.class);
         InstanceIdentifierCodec instanceIdentifierCodec = mock(InstanceIdentifierCodec.class);
@@ -70,6 +73,7 @@ public class OvsdbDataTreeChangeListenerTest extends AbstractDataBrokerTest {
         transaction.submit().get();
 
         // Then the listener tries to open a connection
-        Mockito.verify(ovsdbConnection).connect(inetAddress, port);
+        Mockito.verify(ovsdbConnection).connectAsync(inetAddress, port,
+                OvsdbConnectionManager.DEFAULT_CONNECT_TIMEOUT_MILLIS);
     }
 }
\ No newline at end of file
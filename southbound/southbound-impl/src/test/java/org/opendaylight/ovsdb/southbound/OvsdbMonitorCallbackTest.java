@@ -19,6 +19,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.opendaylight.ovsdb.lib.message.TableUpdates;
 import org.opendaylight.ovsdb.lib.notation.Version;
 import org.opendaylight.ovsdb.lib.schema.DatabaseSchema;
@@ -43,7 +44,7 @@ public class OvsdbMonitorCallbackTest {
         when(dbSchema.getVersion())
                 .thenReturn(Version.fromString(SouthboundConstants.AUTOATTACH_SUPPORTED_OVS_SCHEMA_VERSION));
         ovsdbMonitorCallback.update(mock(TableUpdates.class), dbSchema);
-        verify(txInvoker).invoke(any(OvsdbOperationalCommandAggregator.class));
+        verify(txInvoker).invoke(any(OvsdbOperationalCommandAggregator.class), any(OvsdbClient.class));
     }
 
     @Test
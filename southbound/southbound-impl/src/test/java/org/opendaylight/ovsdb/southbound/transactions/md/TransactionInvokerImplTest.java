@@ -9,11 +9,13 @@
 package org.opendaylight.ovsdb.southbound.transactions.md;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.support.membermodification.MemberMatcher.field;
@@ -37,6 +39,8 @@ import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChain;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.opendaylight.ovsdb.lib.BacklogThrottle;
+import org.opendaylight.ovsdb.lib.OvsdbClient;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.api.support.membermodification.MemberModifier;
 import org.powermock.core.classloader.annotations.PrepareForTest;
@@ -67,6 +71,8 @@ public class TransactionInvokerImplTest {
         transactionInvokerImpl = PowerMockito.mock(TransactionInvokerImpl.class, Mockito.CALLS_REAL_METHODS);
         MemberModifier.field(TransactionInvokerImpl.class, "chain").set(transactionInvokerImpl, chain);
         MemberModifier.field(TransactionInvokerImpl.class, "db").set(transactionInvokerImpl, db);
+        MemberModifier.field(TransactionInvokerImpl.class, "throttle").set(transactionInvokerImpl,
+                new BacklogThrottle(2, 1, inputQueue::size));
     }
 
     @Test
@@ -89,6 +95,40 @@ public class TransactionInvokerImplTest {
         assertTrue(testInputQueue.contains(command));
     }
 
+    @Test
+    public void testInvokeSuspendsSource() throws Exception {
+        MemberModifier.field(TransactionInvokerImpl.class, "inputQueue").set(transactionInvokerImpl, inputQueue);
+        OvsdbClient source = mock(OvsdbClient.class, Mockito.RETURNS_DEEP_STUBS);
+        transactionInvokerImpl.invoke(mock(TransactionCommand.class), source);
+        transactionInvokerImpl.invoke(mock(TransactionCommand.class), source);
+        verify(source, times(0)).suspendReading();
+
+        // from the high watermark on the source is suspended, once
+        transactionInvokerImpl.invoke(mock(TransactionCommand.class), source);
+        transactionInvokerImpl.invoke(mock(TransactionCommand.class), source);
+        verify(source, times(1)).suspendReading();
+
+        assertEquals(4, Whitebox.<List<TransactionCommand>>invokeMethod(transactionInvokerImpl,
+                "extractCommandsFromQueue").size());
+        BacklogThrottle throttle = Whitebox.getInternalState(transactionInvokerImpl, "throttle");
+        assertFalse(throttle.resumeIfDrained());
+        verify(source, times(1)).resumeReading();
+    }
+
+    @Test
+    public void testInvokeNeverBlocks() throws Exception {
+        MemberModifier.field(TransactionInvokerImpl.class, "inputQueue").set(transactionInvokerImpl, inputQueue);
+        OvsdbClient source = mock(OvsdbClient.class, Mockito.RETURNS_DEEP_STUBS);
+        // past the expected maximum of twice the high watermark, the updates of the suspended source are still queued
+        for (int i = 0; i < 6; i++) {
+            transactionInvokerImpl.invoke(mock(TransactionCommand.class), source);
+        }
+        verify(source, times(1)).suspendReading();
+        assertEquals(6, inputQueue.size());
+        BacklogThrottle throttle = Whitebox.getInternalState(transactionInvokerImpl, "throttle");
+        assertTrue(throttle.checkOverflow());
+    }
+
     @Test
     public void testOnTransactionChainFailed() throws Exception {
         field(TransactionInvokerImpl.class, "failedTransactionQueue").set(transactionInvokerImpl,